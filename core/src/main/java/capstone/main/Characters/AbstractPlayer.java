@@ -1,6 +1,7 @@
 package capstone.main.Characters;
 
 import capstone.main.Managers.*;
+import capstone.main.Sprites.SpriteInterpolator;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
@@ -31,8 +32,8 @@ public abstract class AbstractPlayer {
     protected float width;
     protected float height;
     protected DirectionManager directionManager;
-    protected BoundaryManager boundaryManager;
     protected Sprite sprite;
+    private final SpriteInterpolator interpolator = new SpriteInterpolator();
     protected float weaponAimingRad;
 
     protected float attackTimer = getAttackDelay();
@@ -49,7 +50,7 @@ public abstract class AbstractPlayer {
     // Constructor for animated characters (NEW)
     public AbstractPlayer(float healthPoints, float manaPoints, float baseDamage, float maxDamage,
                           float baseAttackSpeed, String characterName, float x, float y,
-                          float width, float height, float worldWidth, float worldHeight,
+                          float width, float height,
                           World physicsWorld) {
         this.maxHealthPoints = Math.max(1f, healthPoints);
         this.healthPoints = Math.min(Math.max(0f, healthPoints), maxHealthPoints);
@@ -69,13 +70,13 @@ public abstract class AbstractPlayer {
         sprite = new Sprite(currentFrame);
         sprite.setSize(width, height);
 
-        initializeCommon(x, y, worldWidth, worldHeight, physicsWorld);
+        initializeCommon(x, y, physicsWorld);
     }
 
     // Constructor for static texture characters (EXISTING - for compatibility)
     public AbstractPlayer(float healthPoints, float manaPoints, float baseDamage, float maxDamage,
                           float baseAttackSpeed, Texture texture, float x, float y,
-                          float width, float height, float worldWidth, float worldHeight,
+                          float width, float height,
                           World physicsWorld) {
         this.maxHealthPoints = Math.max(1f, healthPoints);
         this.healthPoints = Math.min(Math.max(0f, healthPoints), maxHealthPoints);
@@ -90,12 +91,11 @@ public abstract class AbstractPlayer {
         sprite.setSize(width, height);
         useAnimations = false;
 
-        initializeCommon(x, y, worldWidth, worldHeight, physicsWorld);
+        initializeCommon(x, y, physicsWorld);
     }
 
     // Common initialization code
-    private void initializeCommon(float x, float y, float worldWidth, float worldHeight, World physicsWorld) {
-        boundaryManager = new BoundaryManager(worldWidth, worldHeight, physicsWorld);
+    private void initializeCommon(float x, float y, World physicsWorld) {
         directionManager = new DirectionManager(sprite);
 
         // --- Create Box2D body ---
@@ -200,6 +200,10 @@ public abstract class AbstractPlayer {
         );
     }
 
+    public SpriteInterpolator getInterpolator() {
+        return interpolator;
+    }
+
     public Sprite getSprite() {
         return sprite;
     }
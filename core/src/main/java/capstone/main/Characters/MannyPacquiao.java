@@ -60,7 +60,7 @@ public class MannyPacquiao extends AbstractPlayer implements Melee {
     public MannyPacquiao(float healthPoints, float manaPoints, float baseDamage, float maxDamage,
                          float attackSpeed, float x, float y, float width, float height,
                          ArrayList<AbstractEnemy> enemies, ArrayList<DamageNumber> damageNumbers,
-                         BitmapFont damageFont, float worldWidth, float worldHeight,
+                         BitmapFont damageFont,
                          World physicsWorld, ScreenShake screenShake) {
         super(
             healthPoints,
@@ -70,7 +70,6 @@ public class MannyPacquiao extends AbstractPlayer implements Melee {
             attackSpeed,
             "Manny Pacquiao",
             x, y, width, height,
-            worldWidth, worldHeight,
             physicsWorld
         );
         this.screenShake = screenShake;
@@ -2,7 +2,6 @@ package capstone.main.Characters;
 
 import capstone.main.Managers.ScreenShake;
 import capstone.main.Managers.SoundManager;
-import capstone.main.Sprites.Fireball;
 import com.badlogic.gdx.physics.box2d.World;
 import capstone.main.Skills.Quiboloy.DivineHealing;
 import capstone.main.Sprites.DamageNumber;
@@ -34,7 +33,6 @@ import java.util.ArrayList;
  */
 public class Quiboloy extends AbstractPlayer implements MagicRanged {
 
-    private final ArrayList<Fireball> fireballs;
     private final ScreenShake screenShake;
     private DivineHealing divineHealing;
 
@@ -42,7 +40,6 @@ public class Quiboloy extends AbstractPlayer implements MagicRanged {
     // Animation-based constructor
     public Quiboloy(float healthPoints, float manaPoints, float baseDamage, float maxDamage,
                     float attackSpeed, float x, float y, float width, float height,
-                    ArrayList<Fireball> fireballs, float worldWidth, float worldHeight,
                     World physicsWorld, ScreenShake screenShake) {
         super(
             healthPoints,
@@ -55,12 +52,9 @@ public class Quiboloy extends AbstractPlayer implements MagicRanged {
             y,
             width,
             height,
-            worldWidth,
-            worldHeight,
             physicsWorld
         );
 
-        this.fireballs = fireballs;
         this.screenShake = screenShake;
     }
 
@@ -80,11 +74,6 @@ public class Quiboloy extends AbstractPlayer implements MagicRanged {
         SoundManager.getInstance().playSound("player_damage");
     }
 
-    // New getter for FireballLogic
-    public ArrayList<Fireball> getFireballs() {
-        return fireballs;
-    }
-
     public void initializeSkills(ArrayList<DamageNumber> damageNumbers,
                                  BitmapFont damageFont) {
         this.divineHealing = new DivineHealing(this, damageNumbers, damageFont);
@@ -2,11 +2,8 @@ package capstone.main.Characters;
 
 import capstone.main.Managers.ScreenShake;
 import capstone.main.Managers.SoundManager;
-import capstone.main.Sprites.Bullet;
 import com.badlogic.gdx.physics.box2d.World;
 
-import java.util.ArrayList;
-
 /**
  * Vico Sotto character class - A ranged fighter specializing in rapid-fire bullet attacks.
  * 
@@ -30,12 +27,10 @@ import java.util.ArrayList;
  */
 public class VicoSotto extends AbstractPlayer implements Ranged {
 
-    private final ArrayList<Bullet> bullets;
     private final ScreenShake screenShake;
 
     public VicoSotto(float healthPoints, float manaPoints, float baseDamage, float maxDamage,
                      float attackSpeed, float x, float y, float width, float height,
-                     ArrayList<Bullet> bullets, float worldWidth, float worldHeight,
                      World physicsWorld, ScreenShake screenShake) {
         super(
             healthPoints,
@@ -48,12 +43,9 @@ public class VicoSotto extends AbstractPlayer implements Ranged {
             y,
             width,
             height,
-            worldWidth,
-            worldHeight,
             physicsWorld
         );
 
-        this.bullets = bullets;
         this.screenShake = screenShake;
     }
 
@@ -70,9 +62,4 @@ public class VicoSotto extends AbstractPlayer implements Ranged {
         // PLAY SOUND
         SoundManager.getInstance().playSound("player_damage");
     }
-
-    @Override
-    public ArrayList<Bullet> getBullets() {
-        return bullets;
-    }
 }
@@ -3,6 +3,5 @@ package capstone.main;
 public class CollisionBits {
     public static final short PLAYER = 0x0001;
     public static final short ENEMY  = 0x0002;
-    public static final short BULLET = 0x0004;
     public static final short WALL   = 0x0008;
 }
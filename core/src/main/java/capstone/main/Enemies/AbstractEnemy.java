@@ -4,6 +4,7 @@ import capstone.main.Characters.AbstractPlayer;
 import capstone.main.CollisionBits;
 import capstone.main.Managers.ScreenShake;
 import capstone.main.Managers.SoundManager;
+import capstone.main.Sprites.SpriteInterpolator;
 import capstone.main.UI.HealthBar;
 import capstone.main.Managers.PhysicsManager;
 import capstone.main.Managers.DirectionManager;
@@ -13,9 +14,13 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import capstone.main.Pathfinding.FlowField;
+import capstone.main.Pathfinding.IncrementalPlanner;
 import capstone.main.Pathfinding.NavMesh;
 import capstone.main.Pathfinding.NavNode;
-import capstone.main.Pathfinding.PathfindingCache;
+import capstone.main.Pathfinding.PathRequest;
+import capstone.main.Pathfinding.PathRequestService;
+import capstone.main.Pathfinding.PathSmoother;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,8 +43,20 @@ public abstract class AbstractEnemy {
     protected float speed = 1.5f;
     protected float baseSpeed = 1.5f;
     protected float hitboxRadius;
+    protected float bodyRadius; // radius of the Box2D circle, used for crowd avoidance
+    protected float agentRadius = 0f; // body radius for path clearance; 0 = any walkable tile will do
 
     protected DirectionManager directionManager;
+    private final SpriteInterpolator interpolator = new SpriteInterpolator();
+
+    // Level of detail, assigned by EnemyLogic every frame. When not animated (reduced tier,
+    // off screen) subclasses skip frame selection and the health bar is left alone.
+    public static final int LOD_FULL = 0;
+    public static final int LOD_REDUCED = 1;
+    public static final int LOD_DORMANT = 2;
+    protected boolean animated = true;
+    private int lodTier = LOD_FULL;
+    private float lodPendingDelta = 0f; // time not yet simulated while in the reduced tier
 
     // Status effects
     protected boolean isSlowed = false;
@@ -47,10 +64,13 @@ public abstract class AbstractEnemy {
     protected float slowMultiplier = 0.5f; // 50% speed when slowed
     protected BitmapFont statusFont = new BitmapFont();
     protected String statusText = "";
-    protected List<NavNode> currentPath = new ArrayList<>();
+    protected List<NavNode> currentPath = new ArrayList<>(); // may be a shared read-only cache path
     protected int pathIndex = 0;
 
     protected NavMesh navMesh;
+    private IncrementalPlanner planner; // pooled; held only while chasing outside the flow field, lent to pendingPath
+    private PathRequest pendingPath; // background search; we keep following currentPath until it lands
+    private float timeSinceLastPath = 0f; // raises our priority in the path scheduler
     private final Vector2 tmpVelocity = new Vector2();
     private final Vector2 tmpDirection = new Vector2();
     private final Vector2 tmpNextPos = new Vector2();
@@ -93,14 +113,15 @@ public abstract class AbstractEnemy {
 
         body = physics.getWorld().createBody(bd);
 
+        this.bodyRadius = Math.min(width, height) / 4f;
         CircleShape shape = new CircleShape();
-        shape.setRadius(Math.min(width, height) / 4f);
+        shape.setRadius(bodyRadius);
 
         FixtureDef fd = new FixtureDef();
         fd.shape = shape;
         fd.isSensor = false;
         fd.filter.categoryBits = CollisionBits.ENEMY;
-        fd.filter.maskBits = CollisionBits.BULLET | CollisionBits.WALL;
+        fd.filter.maskBits = CollisionBits.WALL;
 
         Fixture fixture = body.createFixture(fd);
         fixture.setUserData(this);
@@ -140,6 +161,7 @@ public abstract class AbstractEnemy {
             if (enteredClose && distanceToPlayer > aggroChaseDistance) {
                 isAggro = false;
                 enteredClose = false;
+                releasePlanner();
                 body.setLinearVelocity(0, 0);
                 return;
             }
@@ -171,6 +193,23 @@ public abstract class AbstractEnemy {
         if (navMesh == null) {
             Gdx.app.log("EnemyPF", getClass().getSimpleName() + ": navMesh is NULL");
         }
+
+        // SHARED FLOW FIELD: every chaser reads the same field toward the player's tile.
+        // It is rebuilt only when the player changes tile, so chase cost stays flat with enemy count.
+        // Per-enemy A* below is only used when we're outside the field (too far / not covered).
+        // Large bodies need clearance-aware paths; the shared field and planner are for point agents
+        boolean needsClearance = NavMesh.clearanceFor(agentRadius) > 1;
+        NavNode flowNext = null;
+        if (navMesh != null && !needsClearance) {
+            FlowField flowField = navMesh.getFlowField();
+            if (flowField.update(getNearestNode(tmpPlayerPos))) {
+                flowNext = flowField.getNextNode(getNearestNode(enemyPos));
+            }
+        }
+        if (flowNext != null) {
+            releasePlanner(); // let a chaser outside the field use it
+        }
+
         // OPTIMIZED: Distance-based update frequency - far enemies update less often
         float dynamicInterval = PATH_UPDATE_INTERVAL;
         if (distanceToPlayer > 15f) {
@@ -180,8 +219,13 @@ public abstract class AbstractEnemy {
         }
         // Close enemies keep default 0.75s interval
         
+        // Hierarchical paths are refined one cluster at a time, so a walked-out path that
+        // stops short of the player asks for the next leg right away instead of idling
+        boolean pathExhausted = !currentPath.isEmpty() && pathIndex >= currentPath.size();
+
         pathUpdateTimer += delta;
-        if (pathUpdateTimer >= dynamicInterval) {
+        timeSinceLastPath += delta;
+        if (flowNext == null && (pathUpdateTimer >= dynamicInterval || pathExhausted)) {
             pathUpdateTimer = 0f;
 
             NavNode startNode = getNearestNode(enemyPos);
@@ -196,6 +240,8 @@ public abstract class AbstractEnemy {
 
             if (currentPath.isEmpty()) {
                 shouldRecalculate = true;
+            } else if (pathExhausted && currentPath.get(currentPath.size() - 1) != targetNode) {
+                shouldRecalculate = true;
             } else if (targetNode != null) {
                 NavNode lastNode = currentPath.get(currentPath.size() - 1);
                 // Increase threshold to 3 nodes to reduce recalculation frequency
@@ -206,15 +252,49 @@ public abstract class AbstractEnemy {
                 }
             }
 
-            if (shouldRecalculate && startNode != null && targetNode != null) {
-                Gdx.app.log("EnemyPF", getClass().getSimpleName() + ": recalculating path. start=" + startNode.x+","+startNode.y + " target=" + targetNode.x+","+targetNode.y);
-                // MEMORY FIX: Clear old path before getting new one
-                currentPath.clear();
+            if (planner == null && navMesh != null && !needsClearance) {
+                planner = IncrementalPlanner.acquire();
+            }
+
+            if (planner != null && startNode != null && targetNode != null) {
+                // Incremental replanning: repair the previous search toward the player's new tile
+                // instead of throwing it away, so small player moves cost only a few node updates.
+                // The repair runs on a path worker; while it's in flight the planner is the worker's
+                if (pendingPath != null && pendingPath.getPlanner() == null) {
+                    pendingPath.cancel();
+                    pendingPath = null;
+                }
+                if (pendingPath == null
+                    && (currentPath.isEmpty() || pathExhausted || currentPath.get(currentPath.size() - 1) != targetNode)) {
+                    pendingPath = PathRequestService.submit(navMesh, startNode, targetNode, planner, distanceToPlayer, timeSinceLastPath);
+                }
+            } else if (shouldRecalculate && startNode != null && targetNode != null) {
+                // Searched off the render thread (cache hits come back immediately);
+                // only one request in flight, replaced when the player changes tile
+                if (pendingPath == null || pendingPath.getTarget() != targetNode) {
+                    Gdx.app.log("EnemyPF", getClass().getSimpleName() + ": requesting path. start=" + startNode.x+","+startNode.y + " target=" + targetNode.x+","+targetNode.y);
+                    if (pendingPath != null) pendingPath.cancel();
+                    pendingPath = PathRequestService.submit(navMesh, startNode, targetNode, agentRadius, distanceToPlayer, timeSinceLastPath);
+                }
+            }
+        }
 
-                // Use cached pathfinding to avoid recalculating same paths
-                currentPath = PathfindingCache.getCachedPath(navMesh, startNode, targetNode);
-                pathIndex = 0;
-                Gdx.app.log("EnemyPF", getClass().getSimpleName() + ": path size=" + (currentPath==null?0:currentPath.size()));
+        // Switch to the requested path once the service has handed it back
+        if (pendingPath != null && pendingPath.isReady()) {
+            List<NavNode> result = pendingPath.getResult();
+            pendingPath = null;
+            if (result != null) {
+                currentPath = result;
+                timeSinceLastPath = 0f;
+                // We kept moving while it was searched: resume from our current tile if it's a waypoint,
+                // otherwise skip the first waypoint when we can already walk straight to the second
+                NavNode here = getNearestNode(enemyPos);
+                int resumeIndex = result.indexOf(here);
+                if (resumeIndex < 0 && here != null && result.size() > 1
+                    && PathSmoother.hasLineOfSight(navMesh, here, result.get(1), agentRadius)) {
+                    resumeIndex = 1;
+                }
+                pathIndex = Math.max(0, resumeIndex);
             }
         }
 
@@ -228,6 +308,19 @@ public abstract class AbstractEnemy {
                 tmpVelocity.set(tmpDirection.nor().scl(speed * 0.8f)); // Direct movement when close
                 if (isSlowed) tmpVelocity.scl(slowMultiplier);
             }
+        } else if (flowNext != null) {
+            // Step toward the next tile given by the flow field
+            tmpDirection.set(flowNext.worldPos).sub(enemyPos);
+            float directionLen = tmpDirection.len();
+            if (directionLen > 0.1f) {
+                tmpVelocity.set(tmpDirection).scl(speed / directionLen);
+                if (isSlowed) tmpVelocity.scl(slowMultiplier);
+
+                // prevent overshoot
+                if (tmpVelocity.len() * delta > directionLen) {
+                    tmpVelocity.set(tmpDirection.scl(1f / delta));
+                }
+            }
         } else if (!currentPath.isEmpty() && pathIndex < currentPath.size()) {
             // Follow path for medium/long range movement
             NavNode nextNode = currentPath.get(pathIndex);
@@ -236,7 +329,8 @@ public abstract class AbstractEnemy {
             tmpDirection.set(tmpNextPos).sub(enemyPos);
 
             // Larger threshold to prevent jittering when near waypoints
-            float nodeThreshold = Math.max(navMesh.getNodeSize() * 0.5f, hitboxRadius);
+            // (clearance-aware agents use their body radius so they don't cut corners the path avoided)
+            float nodeThreshold = Math.max(navMesh.getNodeSize() * 0.5f, agentRadius > 0f ? agentRadius : hitboxRadius);
             
             if (tmpDirection.len2() < nodeThreshold * nodeThreshold) { // Use len2() for performance
                 pathIndex++;
@@ -262,6 +356,9 @@ public abstract class AbstractEnemy {
             }
         }
 
+        // Bend the preferred velocity around nearby enemies; bodies don't collide with each other
+        CrowdSteering.steer(this, tmpVelocity, Math.max(tmpVelocity.len(), speed), delta);
+
 body.setLinearVelocity(tmpVelocity);
 body.setAwake(true);
 
@@ -273,15 +370,14 @@ body.setAwake(true);
 
         directionManager.setFacingLeft(tmpVelocity.x < 0);
 
-        if (healthBar != null)
+        if (healthBar != null && animated)
             healthBar.update(delta);
     }
 
 
+    // Snaps to the closest walkable tile, so a body pushed against a wall still gets a path
     private NavNode getNearestNode(Vector2 pos) {
-        int x = (int) Math.floor(pos.x / navMesh.getNodeSize());
-        int y = (int) Math.floor(pos.y / navMesh.getNodeSize());
-        return navMesh.getNode(x, y);
+        return navMesh.getNearestNode(pos);
     }
 
 
@@ -379,6 +475,10 @@ body.setAwake(true);
         return health <= 0;
     }
 
+    public SpriteInterpolator getInterpolator() {
+        return interpolator;
+    }
+
     public Sprite getSprite() {
         return sprite;
     }
@@ -395,16 +495,91 @@ body.setAwake(true);
         return body;
     }
 
+    public float getBodyRadius() {
+        return bodyRadius;
+    }
+
+    /** Resizes the body's circle; bodyRadius follows, so crowd spacing and projectile hits match the fixture. */
+    protected void setBodyRadius(float radius) {
+        for (Fixture fx : body.getFixtureList()) {
+            if (fx.getShape().getType() == Shape.Type.Circle) fx.getShape().setRadius(radius);
+        }
+        bodyRadius = radius;
+    }
+
+    public boolean isAggro() {
+        return isAggro;
+    }
+
+    public float getDefaultChaseDistance() {
+        return defaultChaseDistance;
+    }
+
+    // Restores what EnemySpawner kept while this enemy was stored as a dormant record
+    void restoreDormantState(float health, boolean aggro, boolean enteredClose) {
+        this.health = health;
+        if (healthBar != null) healthBar.setHealth(health);
+        this.isAggro = aggro;
+        this.enteredClose = enteredClose;
+    }
+
+    public int getLodTier() {
+        return lodTier;
+    }
+
+    public void setLodTier(int tier) {
+        if (tier == LOD_DORMANT && lodTier != LOD_DORMANT) {
+            // Nothing will tick us until the player's region changes: stop and let Box2D sleep
+            body.setLinearVelocity(0, 0);
+            body.setAwake(false);
+            releasePlanner(); // first, so a planner lent to pendingPath is handed over, not pooled twice
+            if (pendingPath != null) {
+                pendingPath.cancel();
+                pendingPath = null;
+            }
+            lodPendingDelta = 0f;
+        }
+        lodTier = tier;
+        animated = tier == LOD_FULL;
+    }
+
+    /** Adds a frame's delta to the time owed to this enemy and returns the total owed. */
+    public float accrueLodDelta(float delta) {
+        lodPendingDelta += delta;
+        return lodPendingDelta;
+    }
+
+    /** Returns the time owed and clears it, for the tick about to run. */
+    public float takeLodDelta() {
+        float owed = lodPendingDelta;
+        lodPendingDelta = 0f;
+        return owed;
+    }
+
+    private void releasePlanner() {
+        if (planner == null) return;
+        if (pendingPath != null && pendingPath.holdsPlanner()) {
+            // A worker may be repairing with it; the service pools it once the request comes back
+            pendingPath.cancel();
+            pendingPath = null;
+        } else {
+            IncrementalPlanner.release(planner);
+        }
+        planner = null;
+    }
+
     // MEMORY FIX: Add cleanup method to call when enemy is destroyed
     public void dispose() {
         // CRITICAL MEMORY LEAK FIX: Dispose textures and atlases FIRST
         disposeTextures();
         
         // Clear pathfinding data to prevent memory leaks
-        if (currentPath != null) {
-            currentPath.clear();
-            currentPath = null;
+        releasePlanner();
+        if (pendingPath != null) {
+            pendingPath.cancel();
+            pendingPath = null;
         }
+        currentPath = null;
 
         // Dispose of physics body
         if (body != null && body.getWorld() != null) {
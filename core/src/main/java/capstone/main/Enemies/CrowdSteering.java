@@ -0,0 +1,263 @@
+package capstone.main.Enemies;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Local avoidance between enemies (ORCA, as in the RVO2 library). Enemy fixtures don't
+ * collide with each other, so instead of pushing sprites apart after the fact each chaser
+ * swaps its preferred velocity for the closest one that can't run into a neighbour within
+ * TIME_HORIZON seconds, assuming neighbours take half the avoidance.
+ *
+ * Neighbours come from the shared EnemySpatialHash, rebuilt after each physics step and so
+ * before enemies pick their velocities; every enemy steers against that same snapshot of
+ * positions and velocities. Each enemy looks at no more than MAX_NEIGHBORS neighbours, so
+ * a tick costs time linear in the enemy count.
+ *
+ * Render thread only.
+ */
+public final class CrowdSteering {
+    private static final float NEIGHBOR_DIST = 2f;   // centre-to-centre gap (plus radii) worth reacting to
+    private static final int MAX_NEIGHBORS = 12;
+    private static final float TIME_HORIZON = 1f;    // seconds of look-ahead
+    private static final float EPSILON = 1e-5f;
+
+    private static final EnemySpatialHash grid = EnemySpatialHash.shared();
+
+    private static final int[] candidates = new int[48];
+    private static final int[] neighbors = new int[MAX_NEIGHBORS];
+    private static final float[] neighborDist2 = new float[MAX_NEIGHBORS];
+
+    // ORCA half-planes: the allowed side is to the left of direction through point
+    private static final float[] linePx = new float[MAX_NEIGHBORS];
+    private static final float[] linePy = new float[MAX_NEIGHBORS];
+    private static final float[] lineDx = new float[MAX_NEIGHBORS];
+    private static final float[] lineDy = new float[MAX_NEIGHBORS];
+    private static final float[] projPx = new float[MAX_NEIGHBORS];
+    private static final float[] projPy = new float[MAX_NEIGHBORS];
+    private static final float[] projDx = new float[MAX_NEIGHBORS];
+    private static final float[] projDy = new float[MAX_NEIGHBORS];
+
+    private static final Vector2 result = new Vector2();
+    private static final Vector2 saved = new Vector2();
+
+    private CrowdSteering() {}
+
+    /**
+     * Replaces velocity (the enemy's preferred velocity) with the closest velocity no faster
+     * than maxSpeed that avoids its neighbours. Left untouched when nobody is close.
+     */
+    public static void steer(AbstractEnemy self, Vector2 velocity, float maxSpeed, float delta) {
+        if (grid.size() < 2) return;
+
+        Vector2 pos = self.getBody().getPosition();
+        Vector2 current = self.getBody().getLinearVelocity();
+        float radius = self.getBodyRadius();
+        int neighborCount = findNeighbors(self, pos.x, pos.y, radius);
+        if (neighborCount == 0) return;
+
+        float invHorizon = 1f / TIME_HORIZON;
+        float invStep = 1f / Math.max(delta, 1e-3f);
+        for (int k = 0; k < neighborCount; k++) {
+            int j = neighbors[k];
+            float relPx = grid.xAt(j) - pos.x;
+            float relPy = grid.yAt(j) - pos.y;
+            float relVx = current.x - grid.velocityXAt(j);
+            float relVy = current.y - grid.velocityYAt(j);
+            float dist2 = relPx * relPx + relPy * relPy;
+            float combined = radius + grid.radiusAt(j);
+            float combined2 = combined * combined;
+
+            float dirX, dirY, uX, uY;
+            if (dist2 > combined2) {
+                // No overlap yet: cut-off circle at TIME_HORIZON, or one of the cone's legs
+                float wX = relVx - invHorizon * relPx;
+                float wY = relVy - invHorizon * relPy;
+                float wLen2 = wX * wX + wY * wY;
+                float dot1 = wX * relPx + wY * relPy;
+                if (dot1 < 0f && dot1 * dot1 > combined2 * wLen2) {
+                    float wLen = (float) Math.sqrt(wLen2);
+                    float unitX = wX / wLen;
+                    float unitY = wY / wLen;
+                    dirX = unitY;
+                    dirY = -unitX;
+                    float scale = combined * invHorizon - wLen;
+                    uX = scale * unitX;
+                    uY = scale * unitY;
+                } else {
+                    float leg = (float) Math.sqrt(dist2 - combined2);
+                    if (det(relPx, relPy, wX, wY) > 0f) {
+                        dirX = (relPx * leg - relPy * combined) / dist2;
+                        dirY = (relPx * combined + relPy * leg) / dist2;
+                    } else {
+                        dirX = -(relPx * leg + relPy * combined) / dist2;
+                        dirY = -(-relPx * combined + relPy * leg) / dist2;
+                    }
+                    float dot2 = relVx * dirX + relVy * dirY;
+                    uX = dot2 * dirX - relVx;
+                    uY = dot2 * dirY - relVy;
+                }
+            } else {
+                // Already overlapping: separate within this step
+                float wX = relVx - invStep * relPx;
+                float wY = relVy - invStep * relPy;
+                float wLen = (float) Math.sqrt(wX * wX + wY * wY);
+                if (wLen < EPSILON) {
+                    // Exactly stacked with equal velocities; pick a fixed side
+                    wX = 1f;
+                    wY = 0f;
+                    wLen = 1f;
+                }
+                float unitX = wX / wLen;
+                float unitY = wY / wLen;
+                dirX = unitY;
+                dirY = -unitX;
+                float scale = combined * invStep - wLen;
+                uX = scale * unitX;
+                uY = scale * unitY;
+            }
+            linePx[k] = current.x + 0.5f * uX;
+            linePy[k] = current.y + 0.5f * uY;
+            lineDx[k] = dirX;
+            lineDy[k] = dirY;
+        }
+
+        int failed = linearProgram2(linePx, linePy, lineDx, lineDy, neighborCount, maxSpeed,
+            velocity.x, velocity.y, false, result);
+        if (failed < neighborCount) {
+            linearProgram3(neighborCount, failed, maxSpeed, result);
+        }
+        velocity.set(result);
+    }
+
+    // Keeps the MAX_NEIGHBORS closest entries whose bodies come within NEIGHBOR_DIST of ours
+    private static int findNeighbors(AbstractEnemy self, float x, float y, float radius) {
+        float reach = NEIGHBOR_DIST + radius + grid.getMaxRadius();
+        int found = grid.queryCircleIndices(x, y, reach, candidates);
+        int kept = 0;
+        for (int c = 0; c < found; c++) {
+            int i = candidates[c];
+            if (grid.enemyAt(i) == self || grid.enemyAt(i).isDead()) continue;
+            float dx = grid.xAt(i) - x;
+            float dy = grid.yAt(i) - y;
+            float d2 = dx * dx + dy * dy;
+            float limit = NEIGHBOR_DIST + radius + grid.radiusAt(i);
+            if (d2 > limit * limit) continue;
+            if (kept == MAX_NEIGHBORS && d2 >= neighborDist2[kept - 1]) continue;
+
+            // Insertion into the sorted list, dropping the farthest when full
+            int slot = kept < MAX_NEIGHBORS ? kept++ : kept - 1;
+            while (slot > 0 && neighborDist2[slot - 1] > d2) {
+                neighbors[slot] = neighbors[slot - 1];
+                neighborDist2[slot] = neighborDist2[slot - 1];
+                slot--;
+            }
+            neighbors[slot] = i;
+            neighborDist2[slot] = d2;
+        }
+        return kept;
+    }
+
+    /** Best point on line lineNo that satisfies lines [0, lineNo) and the speed circle. */
+    private static boolean linearProgram1(float[] px, float[] py, float[] dx, float[] dy, int lineNo,
+                                          float radius, float optX, float optY, boolean directionOpt, Vector2 out) {
+        float dot = px[lineNo] * dx[lineNo] + py[lineNo] * dy[lineNo];
+        float discriminant = dot * dot + radius * radius - (px[lineNo] * px[lineNo] + py[lineNo] * py[lineNo]);
+        if (discriminant < 0f) return false; // the speed circle misses this line entirely
+
+        float sqrtDisc = (float) Math.sqrt(discriminant);
+        float tLeft = -dot - sqrtDisc;
+        float tRight = -dot + sqrtDisc;
+
+        for (int i = 0; i < lineNo; i++) {
+            float denominator = det(dx[lineNo], dy[lineNo], dx[i], dy[i]);
+            float numerator = det(dx[i], dy[i], px[lineNo] - px[i], py[lineNo] - py[i]);
+            if (Math.abs(denominator) <= EPSILON) {
+                // Parallel lines
+                if (numerator < 0f) return false;
+                continue;
+            }
+            float t = numerator / denominator;
+            if (denominator >= 0f) {
+                tRight = Math.min(tRight, t);
+            } else {
+                tLeft = Math.max(tLeft, t);
+            }
+            if (tLeft > tRight) return false;
+        }
+
+        float t;
+        if (directionOpt) {
+            t = (optX * dx[lineNo] + optY * dy[lineNo]) > 0f ? tRight : tLeft;
+        } else {
+            t = dx[lineNo] * (optX - px[lineNo]) + dy[lineNo] * (optY - py[lineNo]);
+            if (t < tLeft) t = tLeft;
+            else if (t > tRight) t = tRight;
+        }
+        out.set(px[lineNo] + t * dx[lineNo], py[lineNo] + t * dy[lineNo]);
+        return true;
+    }
+
+    /** @return lineCount on success, otherwise the index of the first line that couldn't be met */
+    private static int linearProgram2(float[] px, float[] py, float[] dx, float[] dy, int lineCount,
+                                      float radius, float optX, float optY, boolean directionOpt, Vector2 out) {
+        if (directionOpt) {
+            out.set(optX * radius, optY * radius);
+        } else if (optX * optX + optY * optY > radius * radius) {
+            out.set(optX, optY).nor().scl(radius);
+        } else {
+            out.set(optX, optY);
+        }
+
+        for (int i = 0; i < lineCount; i++) {
+            if (det(dx[i], dy[i], px[i] - out.x, py[i] - out.y) > 0f) {
+                float keepX = out.x;
+                float keepY = out.y;
+                if (!linearProgram1(px, py, dx, dy, i, radius, optX, optY, directionOpt, out)) {
+                    out.set(keepX, keepY);
+                    return i;
+                }
+            }
+        }
+        return lineCount;
+    }
+
+    // Too crowded for every constraint: minimise the worst violation instead
+    private static void linearProgram3(int lineCount, int beginLine, float radius, Vector2 out) {
+        float distance = 0f;
+        for (int i = beginLine; i < lineCount; i++) {
+            if (det(lineDx[i], lineDy[i], linePx[i] - out.x, linePy[i] - out.y) <= distance) continue;
+
+            int projCount = 0;
+            for (int j = 0; j < i; j++) {
+                float determinant = det(lineDx[i], lineDy[i], lineDx[j], lineDy[j]);
+                if (Math.abs(determinant) <= EPSILON) {
+                    if (lineDx[i] * lineDx[j] + lineDy[i] * lineDy[j] > 0f) continue; // same direction
+                    projPx[projCount] = 0.5f * (linePx[i] + linePx[j]);
+                    projPy[projCount] = 0.5f * (linePy[i] + linePy[j]);
+                } else {
+                    float t = det(lineDx[j], lineDy[j], linePx[i] - linePx[j], linePy[i] - linePy[j]) / determinant;
+                    projPx[projCount] = linePx[i] + t * lineDx[i];
+                    projPy[projCount] = linePy[i] + t * lineDy[i];
+                }
+                float ddx = lineDx[j] - lineDx[i];
+                float ddy = lineDy[j] - lineDy[i];
+                float len = (float) Math.sqrt(ddx * ddx + ddy * ddy);
+                projDx[projCount] = ddx / len;
+                projDy[projCount] = ddy / len;
+                projCount++;
+            }
+
+            saved.set(out);
+            if (linearProgram2(projPx, projPy, projDx, projDy, projCount, radius,
+                -lineDy[i], lineDx[i], true, out) < projCount) {
+                // Only fails through floating-point error; keep the previous answer
+                out.set(saved);
+            }
+            distance = det(lineDx[i], lineDy[i], linePx[i] - out.x, linePy[i] - out.y);
+        }
+    }
+
+    private static float det(float ax, float ay, float bx, float by) {
+        return ax * by - ay * bx;
+    }
+}
@@ -169,12 +169,11 @@ public class Discaya extends AbstractEnemy implements BossEntity, TelegraphProvi
         // Reduce friction and collision size to avoid getting snagged on collision layer
         for (com.badlogic.gdx.physics.box2d.Fixture fx : body.getFixtureList()) {
             fx.setFriction(0f);
-            com.badlogic.gdx.physics.box2d.Shape.Type t = fx.getShape().getType();
-            if (t == com.badlogic.gdx.physics.box2d.Shape.Type.Circle) {
-                (fx.getShape()).setRadius(0.6f);
-            }
         }
+        setBodyRadius(0.6f);
         body.setSleepingAllowed(false);
+        // Path clearance for the same 0.6 radius as the body above
+        this.agentRadius = 0.6f;
 
         // Boss should aggressively chase the player across the arena
         this.defaultChaseDistance = 1000f;
@@ -308,6 +307,7 @@ public class Discaya extends AbstractEnemy implements BossEntity, TelegraphProvi
 
             // Remove expired clouds
             if (cloud.isExpired()) {
+                if (navMesh != null) navMesh.removeTileCost(cloud.x, cloud.y, cloud.radius, DiscayaConfig.POISON_PATH_COST);
                 activePoisonClouds.remove(i);
             }
         }
@@ -329,6 +329,8 @@ public class Discaya extends AbstractEnemy implements BossEntity, TelegraphProvi
                 // Spawn a lingering poison cloud at Discaya's position
                 PoisonCloud newCloud = new PoisonCloud(bossPos.x, bossPos.y, DiscayaConfig.POISON_RANGE, 5.0f);
                 activePoisonClouds.add(newCloud);
+                // Paths route around the cloud while it lingers
+                if (navMesh != null) navMesh.addTileCost(newCloud.x, newCloud.y, newCloud.radius, DiscayaConfig.POISON_PATH_COST);
 
                 // Initial damage to player if in range
                 if (distance <= DiscayaConfig.POISON_RANGE) {
@@ -454,6 +456,18 @@ public class Discaya extends AbstractEnemy implements BossEntity, TelegraphProvi
         return new Animation<>(frameDuration, frames, Animation.PlayMode.LOOP);
     }
     
+    @Override
+    public void dispose() {
+        // Clouds outlive the boss's last update, so take their path costs off the mesh here
+        if (navMesh != null) {
+            for (PoisonCloud cloud : activePoisonClouds) {
+                navMesh.removeTileCost(cloud.x, cloud.y, cloud.radius, DiscayaConfig.POISON_PATH_COST);
+            }
+        }
+        activePoisonClouds.clear();
+        super.dispose();
+    }
+
     @Override
     protected void disposeTextures() {
         // CRITICAL MEMORY LEAK FIX: Dispose all owned textures and atlases
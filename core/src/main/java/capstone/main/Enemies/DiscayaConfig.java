@@ -19,6 +19,7 @@ public final class DiscayaConfig {
     public static float POISON_TELEGRAPH = 1.0f; // seconds
     public static float POISON_RANGE = 5.0f;     // world units (radius)
     public static int   POISON_DAMAGE = 15;      // damage per tick
+    public static float POISON_PATH_COST = 6.0f; // extra pathfinding cost per tile inside a cloud
 
     // SHADOW DASH - Quick dash that damages in a line
     public static float DASH_TELEGRAPH = 0.7f;   // seconds (faster telegraph)
@@ -0,0 +1,98 @@
+package capstone.main.Enemies;
+
+/**
+ * Regular enemies far from the player, stored as plain records instead of live AbstractEnemy
+ * objects: no Box2D body, sprite, health bar or font, and nothing in the render or physics
+ * lists. EnemySpawner moves enemies in and out of here as the player walks around.
+ *
+ * Records are kept in parallel primitive arrays; removal swaps the last record into the hole,
+ * so order is not stable.
+ */
+final class DormantEnemies {
+    // Types that can be dehydrated; bosses always stay live
+    static final byte SURVIVOR = 0;
+    static final byte SECURITY = 1;
+    static final byte FOLLOWER = 2;
+    static final byte NONE = -1;
+
+    static final float FULL_HEALTH = -1f; // spawned straight into the store, never hit
+
+    private static final byte FLAG_AGGRO = 1;
+    private static final byte FLAG_ENTERED_CLOSE = 2;
+
+    private final byte[] types;
+    private final float[] xs, ys; // body centre, same frame as the player position they're compared to
+    private final float[] healths;
+    private final byte[] flags;
+    private int count;
+
+    DormantEnemies(int capacity) {
+        types = new byte[capacity];
+        xs = new float[capacity];
+        ys = new float[capacity];
+        healths = new float[capacity];
+        flags = new byte[capacity];
+    }
+
+    static byte typeOf(Class<? extends AbstractEnemy> type) {
+        if (type == Survivor.class) return SURVIVOR;
+        if (type == Security.class) return SECURITY;
+        if (type == Follower.class) return FOLLOWER;
+        return NONE;
+    }
+
+    static byte typeOf(AbstractEnemy e) {
+        return typeOf(e.getClass());
+    }
+
+    /**
+     * Half the width/height each type's constructor passes to AbstractEnemy, whose body sits
+     * that far from the constructor's (x, y): converts a stored centre back to constructor coordinates.
+     */
+    static float halfSizeOf(byte type) {
+        return type == SURVIVOR ? 0.5f : 1.5f;
+    }
+
+    static Class<? extends AbstractEnemy> classOf(byte type) {
+        switch (type) {
+            case SURVIVOR: return Survivor.class;
+            case SECURITY: return Security.class;
+            case FOLLOWER: return Follower.class;
+            default: return null;
+        }
+    }
+
+    /** @return false when the store is full */
+    boolean add(byte type, float x, float y, float health, boolean aggro, boolean enteredClose) {
+        if (count == types.length) return false;
+        types[count] = type;
+        xs[count] = x;
+        ys[count] = y;
+        healths[count] = health;
+        flags[count] = (byte) ((aggro ? FLAG_AGGRO : 0) | (enteredClose ? FLAG_ENTERED_CLOSE : 0));
+        count++;
+        return true;
+    }
+
+    void remove(int i) {
+        count--;
+        types[i] = types[count];
+        xs[i] = xs[count];
+        ys[i] = ys[count];
+        healths[i] = healths[count];
+        flags[i] = flags[count];
+    }
+
+    void clear() {
+        count = 0;
+    }
+
+    int size() { return count; }
+    boolean isFull() { return count == types.length; }
+    byte typeAt(int i) { return types[i]; }
+    float xAt(int i) { return xs[i]; }
+    float yAt(int i) { return ys[i]; }
+    float healthAt(int i) { return healths[i]; }
+    boolean aggroAt(int i) { return (flags[i] & FLAG_AGGRO) != 0; }
+    boolean enteredCloseAt(int i) { return (flags[i] & FLAG_ENTERED_CLOSE) != 0; }
+}
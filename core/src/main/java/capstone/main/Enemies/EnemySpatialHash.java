@@ -0,0 +1,342 @@
+package capstone.main.Enemies;
+
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform grid over enemy body positions, rebuilt once per tick right after the physics
+ * step. World cells are hashed into a power-of-two bucket table and the entries are
+ * counting-sorted by bucket, so a rebuild is linear in the enemy count and needs no map
+ * bounds. Positions, velocities and radii are snapshotted at rebuild time; queries test
+ * the snapshot, not the live bodies.
+ *
+ * Enemies spawned between rebuilds are appended with insert() and scanned linearly until
+ * the next rebuild sorts them in. Shape queries skip enemies that have died since the
+ * snapshot and write into a caller-supplied buffer, stopping when it is full.
+ *
+ * Render thread only.
+ */
+public final class EnemySpatialHash {
+    public static final float CELL_SIZE = 2f;
+
+    private static final EnemySpatialHash shared = new EnemySpatialHash(CELL_SIZE);
+
+    private static final int CIRCLE = 0;
+    private static final int SECTOR = 1;
+    private static final int CAPSULE = 2;
+    private static final int ANNULUS = 3;
+
+    private final float cellSize;
+    private final float invCellSize;
+
+    private int count;       // all snapshot entries
+    private int sortedCount; // entries [0, sortedCount) are bucketed; the rest were inserted since
+    private AbstractEnemy[] enemies = new AbstractEnemy[64];
+    private float[] xs = new float[64];
+    private float[] ys = new float[64];
+    private float[] vxs = new float[64];
+    private float[] vys = new float[64];
+    private float[] radii = new float[64];
+    private float maxRadius;
+
+    private int bucketMask;
+    private int[] bucketStart = new int[0]; // entries of bucket b are order[bucketStart[b] .. bucketStart[b + 1])
+    private int[] order = new int[64];
+    private int[] entryBucket = new int[64];
+    private int[] bucketStamp = new int[0]; // dedupes buckets that several query cells hash into
+    private int stamp;
+
+    // Parameters of the shape being queried; set before collect() so the scan doesn't allocate
+    private int shape;
+    private float cx, cy, r2, innerR2;
+    private float dirX, dirY, cosHalf;
+    private float segX, segY, segLen2;
+
+    public EnemySpatialHash(float cellSize) {
+        this.cellSize = cellSize;
+        this.invCellSize = 1f / cellSize;
+    }
+
+    /** The index every gameplay query reads; Game rebuilds it after each physics step. */
+    public static EnemySpatialHash shared() {
+        return shared;
+    }
+
+    /** Snapshots every living enemy's body and re-sorts the buckets. */
+    public void rebuild(List<AbstractEnemy> source) {
+        int n = source.size();
+        ensureCapacity(n);
+        resizeTable(n);
+
+        count = 0;
+        maxRadius = 0f;
+        for (int i = 0; i < n; i++) {
+            AbstractEnemy e = source.get(i);
+            if (e.isDead() || e.getBody() == null) continue;
+            append(e);
+        }
+        sortedCount = count;
+        // Drop references from the previous tick so removed enemies can be collected
+        Arrays.fill(enemies, count, enemies.length, null);
+
+        // Counting sort by bucket: count, prefix-sum to bucket ends, then fill each bucket
+        // from the back so bucketStart[b] finishes at the bucket's first entry
+        int buckets = bucketMask + 1;
+        Arrays.fill(bucketStart, 0);
+        for (int i = 0; i < count; i++) {
+            int b = bucket(cell(xs[i]), cell(ys[i]));
+            entryBucket[i] = b;
+            bucketStart[b]++;
+        }
+        for (int b = 1; b < buckets; b++) {
+            bucketStart[b] += bucketStart[b - 1];
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            order[--bucketStart[entryBucket[i]]] = i;
+        }
+        bucketStart[buckets] = count;
+    }
+
+    /** Adds an enemy spawned since the last rebuild, so spacing checks and hits see it this tick. */
+    public void insert(AbstractEnemy e) {
+        if (e == null || e.getBody() == null) return;
+        ensureCapacity(count + 1);
+        append(e);
+    }
+
+    /** Forgets every entry (the enemies were disposed with their bodies). */
+    public void clear() {
+        Arrays.fill(enemies, 0, count, null);
+        count = 0;
+        sortedCount = 0;
+        maxRadius = 0f;
+        Arrays.fill(bucketStart, 0);
+    }
+
+    /** Enemies whose centre lies within radius of (x, y). */
+    public int queryCircle(float x, float y, float radius, AbstractEnemy[] out) {
+        shape = CIRCLE;
+        cx = x;
+        cy = y;
+        r2 = radius * radius;
+        return collect(x - radius, y - radius, x + radius, y + radius, out);
+    }
+
+    /**
+     * Enemies within radius of (x, y) and within halfAngleRad of the direction (dirX, dirY).
+     * The direction need not be normalised.
+     */
+    public int querySector(float x, float y, float radius, float dirX, float dirY, float halfAngleRad,
+                           AbstractEnemy[] out) {
+        float len = (float) Math.sqrt(dirX * dirX + dirY * dirY);
+        if (len == 0f) return 0;
+        shape = SECTOR;
+        cx = x;
+        cy = y;
+        r2 = radius * radius;
+        this.dirX = dirX / len;
+        this.dirY = dirY / len;
+        cosHalf = (float) Math.cos(halfAngleRad);
+        return collect(x - radius, y - radius, x + radius, y + radius, out);
+    }
+
+    /** Enemies whose centre lies within radius of the segment from (ax, ay) to (bx, by). */
+    public int queryCapsule(float ax, float ay, float bx, float by, float radius, AbstractEnemy[] out) {
+        shape = CAPSULE;
+        cx = ax;
+        cy = ay;
+        segX = bx - ax;
+        segY = by - ay;
+        segLen2 = segX * segX + segY * segY;
+        r2 = radius * radius;
+        return collect(Math.min(ax, bx) - radius, Math.min(ay, by) - radius,
+            Math.max(ax, bx) + radius, Math.max(ay, by) + radius, out);
+    }
+
+    /** Enemies whose distance from (x, y) is within [innerRadius, outerRadius]. */
+    public int queryAnnulus(float x, float y, float innerRadius, float outerRadius, AbstractEnemy[] out) {
+        shape = ANNULUS;
+        cx = x;
+        cy = y;
+        r2 = outerRadius * outerRadius;
+        innerR2 = innerRadius * innerRadius;
+        return collect(x - outerRadius, y - outerRadius, x + outerRadius, y + outerRadius, out);
+    }
+
+    private int collect(float minX, float minY, float maxX, float maxY, AbstractEnemy[] out) {
+        if (count == 0 || out.length == 0) return 0;
+        int found = 0;
+        int minCx = cell(minX);
+        int maxCx = cell(maxX);
+        int minCy = cell(minY);
+        int maxCy = cell(maxY);
+        long cells = ((long) maxCx - minCx + 1) * ((long) maxCy - minCy + 1);
+        int scanFrom = sortedCount;
+        if (cells > bucketMask + 1) {
+            // The shape covers more cells than there are buckets: every bucket gets visited anyway
+            scanFrom = 0;
+        } else if (sortedCount > 0) {
+            nextStamp();
+            for (int gx = minCx; gx <= maxCx; gx++) {
+                for (int gy = minCy; gy <= maxCy; gy++) {
+                    int b = bucket(gx, gy);
+                    if (bucketStamp[b] == stamp) continue;
+                    bucketStamp[b] = stamp;
+                    for (int k = bucketStart[b], end = bucketStart[b + 1]; k < end; k++) {
+                        int i = order[k];
+                        if (!matches(i)) continue;
+                        out[found++] = enemies[i];
+                        if (found == out.length) return found;
+                    }
+                }
+            }
+        }
+        for (int i = scanFrom; i < count; i++) {
+            if (!matches(i)) continue;
+            out[found++] = enemies[i];
+            if (found == out.length) return found;
+        }
+        return found;
+    }
+
+    private boolean matches(int i) {
+        if (enemies[i].isDead()) return false;
+        float dx = xs[i] - cx;
+        float dy = ys[i] - cy;
+        switch (shape) {
+            case CIRCLE:
+                return dx * dx + dy * dy <= r2;
+            case SECTOR: {
+                float d2 = dx * dx + dy * dy;
+                if (d2 > r2) return false;
+                if (d2 == 0f) return true; // standing on the apex counts as inside
+                float dot = dx * dirX + dy * dirY;
+                // angle <= halfAngle  <=>  dot >= |d| cos(halfAngle), squared with signs kept
+                if (cosHalf >= 0f) return dot >= 0f && dot * dot >= cosHalf * cosHalf * d2;
+                return dot >= 0f || dot * dot <= cosHalf * cosHalf * d2;
+            }
+            case CAPSULE: {
+                float t = segLen2 > 0f ? (dx * segX + dy * segY) / segLen2 : 0f;
+                if (t < 0f) t = 0f;
+                else if (t > 1f) t = 1f;
+                float px = dx - t * segX;
+                float py = dy - t * segY;
+                return px * px + py * py <= r2;
+            }
+            default: {
+                float d2 = dx * dx + dy * dy;
+                return d2 <= r2 && d2 >= innerR2;
+            }
+        }
+    }
+
+    /**
+     * Writes the snapshot indices of entries whose centre lies within radius of (x, y) into
+     * out, stopping when it is full. Dead entries are included; used by CrowdSteering, which
+     * also needs the snapshotted velocities.
+     *
+     * @return the number of indices written
+     */
+    int queryCircleIndices(float x, float y, float radius, int[] out) {
+        if (count == 0 || out.length == 0) return 0;
+        float rr = radius * radius;
+        int found = 0;
+        if (sortedCount > 0) {
+            int minCx = cell(x - radius);
+            int maxCx = cell(x + radius);
+            int minCy = cell(y - radius);
+            int maxCy = cell(y + radius);
+            nextStamp();
+            for (int gx = minCx; gx <= maxCx; gx++) {
+                for (int gy = minCy; gy <= maxCy; gy++) {
+                    int b = bucket(gx, gy);
+                    if (bucketStamp[b] == stamp) continue;
+                    bucketStamp[b] = stamp;
+                    for (int k = bucketStart[b], end = bucketStart[b + 1]; k < end; k++) {
+                        int i = order[k];
+                        float dx = xs[i] - x;
+                        float dy = ys[i] - y;
+                        if (dx * dx + dy * dy > rr) continue;
+                        out[found++] = i;
+                        if (found == out.length) return found;
+                    }
+                }
+            }
+        }
+        for (int i = sortedCount; i < count; i++) {
+            float dx = xs[i] - x;
+            float dy = ys[i] - y;
+            if (dx * dx + dy * dy > rr) continue;
+            out[found++] = i;
+            if (found == out.length) return found;
+        }
+        return found;
+    }
+
+    int size() { return count; }
+    AbstractEnemy enemyAt(int i) { return enemies[i]; }
+    float xAt(int i) { return xs[i]; }
+    float yAt(int i) { return ys[i]; }
+    float velocityXAt(int i) { return vxs[i]; }
+    float velocityYAt(int i) { return vys[i]; }
+    float radiusAt(int i) { return radii[i]; }
+
+    /** Largest body radius in the current snapshot. */
+    public float getMaxRadius() { return maxRadius; }
+
+    public float getCellSize() { return cellSize; }
+
+    private void append(AbstractEnemy e) {
+        Vector2 p = e.getBody().getPosition();
+        Vector2 v = e.getBody().getLinearVelocity();
+        enemies[count] = e;
+        xs[count] = p.x;
+        ys[count] = p.y;
+        vxs[count] = v.x;
+        vys[count] = v.y;
+        radii[count] = e.getBodyRadius();
+        if (radii[count] > maxRadius) maxRadius = radii[count];
+        count++;
+    }
+
+    private void nextStamp() {
+        if (++stamp == 0) {
+            Arrays.fill(bucketStamp, 0);
+            stamp = 1;
+        }
+    }
+
+    private int cell(float v) {
+        return (int) Math.floor(v * invCellSize);
+    }
+
+    private int bucket(int cx, int cy) {
+        return ((cx * 73856093) ^ (cy * 19349663)) & bucketMask;
+    }
+
+    private void ensureCapacity(int n) {
+        if (n <= enemies.length) return;
+        int capacity = Math.max(n, enemies.length * 2);
+        enemies = Arrays.copyOf(enemies, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        vxs = Arrays.copyOf(vxs, capacity);
+        vys = Arrays.copyOf(vys, capacity);
+        radii = Arrays.copyOf(radii, capacity);
+        order = Arrays.copyOf(order, capacity);
+        entryBucket = Arrays.copyOf(entryBucket, capacity);
+    }
+
+    // At least two buckets per entry keeps unrelated cells from sharing a bucket; never shrinks
+    private void resizeTable(int n) {
+        int buckets = 64;
+        while (buckets < n * 2) buckets <<= 1;
+        if (buckets <= bucketMask + 1) return;
+        bucketMask = buckets - 1;
+        bucketStart = new int[buckets + 1];
+        bucketStamp = new int[buckets];
+        stamp = 0;
+    }
+}
@@ -95,8 +95,20 @@ public class EnemySpawner {
     private Random random;
     private NavMesh navMesh;
     private final Vector2 tmpVec = new Vector2();
+    private boolean hasPlayerPosition = false;
+    private float playerX, playerY;
 
-    public void setNavMesh(NavMesh navMesh) { this.navMesh = navMesh; }
+    public void setNavMesh(NavMesh navMesh) {
+        this.navMesh = navMesh;
+        this.hasPlayerPosition = false; // player is moved onto the new map after spawning
+    }
+
+    /** Latest player position; spawns are kept to the region connected to it. */
+    public void setPlayerPosition(float x, float y) {
+        this.playerX = x;
+        this.playerY = y;
+        this.hasPlayerPosition = true;
+    }
     public void clearEnemies() {
         if (enemies == null) return;
         System.out.println("MEMORY CLEANUP: Clearing " + enemies.size() + " enemies");
@@ -111,6 +123,8 @@ public class EnemySpawner {
             }
         }
         enemies.clear();
+        dormant.clear();
+        EnemySpatialHash.shared().clear();
         
         // MEMORY LEAK FIX: Suggest garbage collection after clearing enemies
         System.gc();
@@ -126,23 +140,40 @@ public class EnemySpawner {
         this.periodicEnabled = policy == null || policy.allowPeriodicSpawns();
     }
     public void spawnSpecific(Class<? extends AbstractEnemy> type, float x, float y) {
+        AbstractEnemy e = createEnemy(type, x, y);
+        if (e != null) addEnemy(e);
+    }
+
+    private AbstractEnemy createEnemy(Class<? extends AbstractEnemy> type, float x, float y) {
         try {
-            AbstractEnemy e = null;
-            if (type == Survivor.class) e = new Survivor(x, y, screenShake, physics, navMesh);
-            else if (type == Greed.class) e = new Greed(x, y, screenShake, physics, navMesh);
-            else if (type == Security.class) e = new Security(x, y, screenShake, physics, navMesh);
-            else if (type == Discaya.class) e = new Discaya(x, y, screenShake, physics, navMesh);
-            else if (type == Follower.class) e = new Follower(x, y, screenShake, physics, navMesh);
-            else if (type == QuiboloyBoss.class) e = new QuiboloyBoss(x, y, screenShake, physics, navMesh, this);
-            if (e != null) enemies.add(e);
+            if (type == Survivor.class) return new Survivor(x, y, screenShake, physics, navMesh);
+            if (type == Greed.class) return new Greed(x, y, screenShake, physics, navMesh);
+            if (type == Security.class) return new Security(x, y, screenShake, physics, navMesh);
+            if (type == Discaya.class) return new Discaya(x, y, screenShake, physics, navMesh);
+            if (type == Follower.class) return new Follower(x, y, screenShake, physics, navMesh);
+            if (type == QuiboloyBoss.class) return new QuiboloyBoss(x, y, screenShake, physics, navMesh, this);
         } catch (Exception ex) {
             System.err.println("Failed to spawn entity: " + type + " " + ex.getMessage());
         }
+        return null;
     }
 
+    private final AbstractEnemy[] spacingHit = new AbstractEnemy[1];
     private float enemySpawnRadius = 2.0f; // Increase radius to avoid spawning near walls
     private float enemySpacingRadius = 3.0f; // Less spacing to allow denser packs
 
+    // Regular enemies beyond activeRadius are kept as dormant records (no body, sprite or font)
+    // and rebuilt once the player comes within rehydrateRadius; the gap stops an enemy on the
+    // boundary from flipping back and forth. maxEnemies caps live spawns near the player,
+    // maxWorldEnemies caps live and dormant together.
+    private float activeRadius = 28f;
+    private float rehydrateRadius = 24f;
+    private int maxWorldEnemies = 200;
+    private int maxRehydratesPerPass = 6; // each rebuild loads textures; spread a crowd over a few passes
+    private float activityInterval = 0.25f;
+    private float activityTimer = 0f;
+    private final DormantEnemies dormant = new DormantEnemies(maxWorldEnemies);
+
 
     private String currentWorld = "World1"; // Default to World1
     private capstone.main.Managers.WorldSpawnPolicy spawnPolicy;
@@ -168,6 +199,12 @@ public class EnemySpawner {
     }
 
     public void update(float delta) {
+        activityTimer += delta;
+        if (activityTimer >= activityInterval) {
+            activityTimer = 0f;
+            updateActivity();
+        }
+
         if (!periodicEnabled) return;
         // OPTIMIZED: More aggressive FPS-based throttling
         float fps = Gdx.graphics.getFramesPerSecond();
@@ -185,8 +222,8 @@ public class EnemySpawner {
         }
         spawnTimer += delta;
         if (spawnTimer >= spawnInterval) {
-            // MEMORY FIX: Only spawn if under limit
-            if (enemies.size() < maxEnemies) {
+            // MEMORY FIX: Only spawn if under limit (far spawns go straight to dormant records)
+            if (enemies.size() + dormant.size() < maxWorldEnemies) {
                 // OPTIMIZED: Reduced from 20 to 5 attempts to reduce CPU spikes
                 boolean spawnSuccessful = false;
                 for (int attempt = 1; attempt <= 5; attempt++) {
@@ -249,8 +286,78 @@ public class EnemySpawner {
         }
 
         // Spawn enemies based on current world
-        spawnWorldSpecificEnemy(x, y);
-        return true; // Successful spawn
+        return spawnWorldSpecificEnemy(x, y);
+    }
+
+    /**
+     * Dehydrates live regular enemies that have fallen outside the activity radius and
+     * rebuilds dormant ones the player has come close to.
+     */
+    private void updateActivity() {
+        if (!hasPlayerPosition) return;
+
+        float activeRadius2 = activeRadius * activeRadius;
+        boolean removed = false;
+        for (int i = enemies.size() - 1; i >= 0 && !dormant.isFull(); i--) {
+            AbstractEnemy e = enemies.get(i);
+            byte type = DormantEnemies.typeOf(e);
+            if (type == DormantEnemies.NONE || e.isDead() || e.isPendingRemoval() || e.getBody() == null) continue;
+            Vector2 pos = e.getBody().getPosition();
+            float dx = pos.x - playerX;
+            float dy = pos.y - playerY;
+            if (dx * dx + dy * dy <= activeRadius2) continue;
+
+            dormant.add(type, pos.x, pos.y, e.health, e.isAggro, e.enteredClose);
+            e.dispose();
+            enemies.remove(i);
+            removed = true;
+        }
+        if (removed) {
+            // Queries this frame must not hand out the disposed enemies
+            EnemySpatialHash.shared().rebuild(enemies);
+        }
+
+        float rehydrateRadius2 = rehydrateRadius * rehydrateRadius;
+        int rebuilt = 0;
+        // Records stay dormant while the live cap is full; they are retried on the next pass
+        for (int i = dormant.size() - 1; i >= 0 && rebuilt < maxRehydratesPerPass && enemies.size() < maxEnemies; i--) {
+            float dx = dormant.xAt(i) - playerX;
+            float dy = dormant.yAt(i) - playerY;
+            if (dx * dx + dy * dy > rehydrateRadius2) continue;
+
+            byte type = dormant.typeAt(i);
+            float half = DormantEnemies.halfSizeOf(type);
+            AbstractEnemy e = createEnemy(DormantEnemies.classOf(type), dormant.xAt(i) - half, dormant.yAt(i) - half);
+            if (e != null) {
+                float health = dormant.healthAt(i);
+                if (health != DormantEnemies.FULL_HEALTH) {
+                    e.restoreDormantState(health, dormant.aggroAt(i), dormant.enteredCloseAt(i));
+                }
+                addEnemy(e);
+            }
+            dormant.remove(i);
+            rebuilt++;
+        }
+    }
+
+    // Live enemy when near the player, otherwise a dormant record; false if the relevant cap is full
+    private boolean spawnOrStore(Class<? extends AbstractEnemy> type, float x, float y) {
+        byte code = DormantEnemies.typeOf(type);
+        if (code != DormantEnemies.NONE && hasPlayerPosition) {
+            float half = DormantEnemies.halfSizeOf(code);
+            float dx = x + half - playerX;
+            float dy = y + half - playerY;
+            if (dx * dx + dy * dy > activeRadius * activeRadius) {
+                return dormant.add(code, x + half, y + half, DormantEnemies.FULL_HEALTH, false, false);
+            }
+        }
+        if (enemies.size() >= maxEnemies) return false;
+        spawnSpecific(type, x, y);
+        return true;
+    }
+
+    public int getDormantCount() {
+        return dormant.size();
     }
 
     // Keep original method for compatibility
@@ -300,22 +407,8 @@ public class EnemySpawner {
             }
         }
 
-        // SECOND: Check NavMesh walkability
+        // SECOND: Check NavMesh walkability (nearest walkable tile, so near-walkable spots pass)
         if (navMesh == null) return false;
-        // Slightly relax walkability: allow nodes that are near-walkable
-        // by checking nearest of 5 candidates and accepting if any walkable
-        NavNode primary = navMesh.getNearestNode(tmpVec);
-        if ((primary == null || !primary.walkable)) {
-            boolean nearOk = false;
-            float[] offsets = {-0.2f, 0f, 0.2f};
-            for (float ox : offsets) for (float oy : offsets) {
-                tmpVec.set(x + ox, y + oy);
-                NavNode nn = navMesh.getNearestNode(tmpVec);
-                if (nn != null && nn.walkable) { nearOk = true; break; }
-            }
-            if (!nearOk) return false;
-        }
-
         tmpVec.set(x, y);
         NavNode spawnNode = navMesh.getNearestNode(tmpVec);
 
@@ -323,6 +416,11 @@ public class EnemySpawner {
             return false;
         }
 
+        // Skip pockets the player can't be reached from (enemies there could never path out)
+        if (navMesh.getComponent(navMesh.indexOf(spawnNode.x, spawnNode.y)) != getPlayerComponent()) {
+            return false;
+        }
+
         // THIRD: Simple mobility test with smaller radius
         int validDirections = 0;
         float testRadius = 0.2f; // Very small test radius for tight areas
@@ -362,15 +460,9 @@ public class EnemySpawner {
                 minDistance = 4.0f; // Good spacing
             }
 
-            for (AbstractEnemy existingEnemy : enemies) {
-                Vector2 enemyPos = existingEnemy.getBody().getPosition();
-                float distance = Vector2.dst(x, y, enemyPos.x, enemyPos.y);
-
-                if (distance < minDistance) {
-                    // Debug disabled: spawn rejection - too close to enemy
-                                     // (debug line removed)
-                    return false;
-                }
+            if (EnemySpatialHash.shared().queryCircle(x, y, minDistance, spacingHit) > 0) {
+                // Debug disabled: spawn rejection - too close to enemy
+                return false;
             }
         }
 
@@ -409,6 +501,15 @@ public class EnemySpawner {
     }
 
 
+    // Region of the player's tile; before the player is placed, the map's main (largest) region
+    private int getPlayerComponent() {
+        if (hasPlayerPosition) {
+            NavNode playerNode = navMesh.getNearestNode(playerX, playerY);
+            if (playerNode != null) return navMesh.getComponent(navMesh.indexOf(playerNode.x, playerNode.y));
+        }
+        return navMesh.getLargestComponent();
+    }
+
     /**
      * Set the current world for world-specific enemy spawning
      */
@@ -427,7 +528,7 @@ public class EnemySpawner {
     /**
      * Spawn enemies specific to the current world
      */
-    private void spawnWorldSpecificEnemy(float x, float y) {
+    private boolean spawnWorldSpecificEnemy(float x, float y) {
         java.util.List<Class<? extends AbstractEnemy>> allowed = null;
         if (spawnPolicy != null) {
             allowed = spawnPolicy.getAllowedSpawns();
@@ -436,26 +537,21 @@ public class EnemySpawner {
             case "World1":
                 if (allowed != null && !allowed.isEmpty()) {
                     Class<? extends AbstractEnemy> t = allowed.get(random.nextInt(allowed.size()));
-                    spawnSpecific(t, x, y);
-                } else {
-                    enemies.add(new Survivor(x, y, screenShake, physics, navMesh));
+                    return spawnOrStore(t, x, y);
                 }
-                break;
+                return spawnOrStore(Survivor.class, x, y);
 
             case "World2":
                 // World2 enemies: Security only (remove Discaya)
-                enemies.add(new Security(x, y, screenShake, physics, navMesh));
-                break;
+                return spawnOrStore(Security.class, x, y);
 
             case "World3":
                 // World3 enemies: Only Followers (QuiboloyBoss is only spawned as boss)
-                enemies.add(new Follower(x, y, screenShake, physics, navMesh));
-                break;
+                return spawnOrStore(Follower.class, x, y);
 
             default:
                 // Fallback to World1 enemies if unknown world
-                enemies.add(new Survivor(x, y, screenShake, physics, navMesh));
-                break;
+                return spawnOrStore(Survivor.class, x, y);
         }
     }
 
@@ -492,7 +588,7 @@ public class EnemySpawner {
      */
     public void spawnSurvivor() {
         Vector2 pos = findValidSpawnPosition();
-        enemies.add(new Survivor(pos.x, pos.y, screenShake, physics, navMesh));
+        addEnemy(new Survivor(pos.x, pos.y, screenShake, physics, navMesh));
     }
 
     /**
@@ -500,7 +596,7 @@ public class EnemySpawner {
      */
     public void spawnSecurity() {
         Vector2 pos = findValidSpawnPosition();
-        enemies.add(new Security(pos.x, pos.y, screenShake, physics, navMesh));
+        addEnemy(new Security(pos.x, pos.y, screenShake, physics, navMesh));
     }
 
     /**
@@ -508,7 +604,7 @@ public class EnemySpawner {
      */
     public void spawnDiscaya() {
         Vector2 pos = findValidSpawnPosition();
-        enemies.add(new Discaya(pos.x, pos.y, screenShake, physics, navMesh));
+        addEnemy(new Discaya(pos.x, pos.y, screenShake, physics, navMesh));
     }
 
     /**
@@ -516,7 +612,7 @@ public class EnemySpawner {
      */
     public void spawnFollower() {
         Vector2 pos = findValidSpawnPosition();
-        enemies.add(new Follower(pos.x, pos.y, screenShake, physics, navMesh));
+        addEnemy(new Follower(pos.x, pos.y, screenShake, physics, navMesh));
     }
 
     /**
@@ -524,36 +620,16 @@ public class EnemySpawner {
      */
     public void spawnQuiboloyBoss() {
         Vector2 pos = findValidSpawnPosition();
-        enemies.add(new QuiboloyBoss(pos.x, pos.y, screenShake, physics, navMesh, this));
+        addEnemy(new QuiboloyBoss(pos.x, pos.y, screenShake, physics, navMesh, this));
     }
 
-    public ArrayList<AbstractEnemy> getEnemies() {
-        return enemies;
+    // Every spawn goes through here so area queries see it before the next physics step
+    private void addEnemy(AbstractEnemy e) {
+        enemies.add(e);
+        EnemySpatialHash.shared().insert(e);
     }
 
-    // Optional: Resolve collisions between enemies (existing code)
-    public static void resolveEnemyCollisions(ArrayList<AbstractEnemy> enemies, float delta) {
-        float repulsionDistance = 0.5f; // adjust based on enemy size
-        float repulsionStrength = 2f;
-
-        for (int i = 0; i < enemies.size(); i++) {
-            AbstractEnemy e1 = enemies.get(i);
-            for (int j = i + 1; j < enemies.size(); j++) {
-                AbstractEnemy e2 = enemies.get(j);
-
-                float dx = e2.getSprite().getX() - e1.getSprite().getX();
-                float dy = e2.getSprite().getY() - e1.getSprite().getY();
-                float distance = (float) Math.sqrt(dx*dx + dy*dy);
-
-                if (distance < repulsionDistance && distance > 0f) {
-                    float overlap = repulsionDistance - distance;
-                    float pushX = (dx / distance) * overlap * repulsionStrength * delta;
-                    float pushY = (dy / distance) * overlap * repulsionStrength * delta;
-
-                    e1.getSprite().setPosition(e1.getSprite().getX() - pushX / 2, e1.getSprite().getY() - pushY / 2);
-                    e2.getSprite().setPosition(e2.getSprite().getX() + pushX / 2, e2.getSprite().getY() + pushY / 2);
-                }
-            }
-        }
+    public ArrayList<AbstractEnemy> getEnemies() {
+        return enemies;
     }
 }
@@ -108,6 +108,7 @@ public class Follower extends AbstractEnemy {
 
         // Core behavior
         pathfindingChaseBehavior(delta, player);
+        if (!animated) return;
 
         stateTime += delta;
 
@@ -136,12 +136,11 @@ public class Greed extends AbstractEnemy implements BossEntity, TelegraphProvide
         // Reduce friction and collision size to avoid getting snagged on collision layer
         for (com.badlogic.gdx.physics.box2d.Fixture fx : body.getFixtureList()) {
             fx.setFriction(0f);
-            com.badlogic.gdx.physics.box2d.Shape.Type t = fx.getShape().getType();
-            if (t == com.badlogic.gdx.physics.box2d.Shape.Type.Circle) {
-                (fx.getShape()).setRadius(0.6f); // narrower body for corridors
-            }
         }
+        setBodyRadius(0.6f); // narrower body for corridors
         body.setSleepingAllowed(false);
+        // Route only through gaps this narrowed body fits, so it stops grinding on walls
+        this.agentRadius = 0.6f;
 
         // Boss should aggressively chase the player across the arena
         this.defaultChaseDistance = 1000f; // effectively always aggro when spawned
@@ -175,12 +175,11 @@ public class QuiboloyBoss extends AbstractEnemy implements BossEntity, Telegraph
         // Reduce friction and collision size to avoid getting snagged on collision layer
         for (com.badlogic.gdx.physics.box2d.Fixture fx : body.getFixtureList()) {
             fx.setFriction(0f);
-            com.badlogic.gdx.physics.box2d.Shape.Type t = fx.getShape().getType();
-            if (t == com.badlogic.gdx.physics.box2d.Shape.Type.Circle) {
-                (fx.getShape()).setRadius(0.6f);
-            }
         }
+        setBodyRadius(0.6f);
         body.setSleepingAllowed(false);
+        // Only take paths wide enough for the shrunken body
+        this.agentRadius = 0.6f;
 
         // Final boss should aggressively chase the player across the arena
         this.defaultChaseDistance = 1000f;
@@ -322,6 +321,7 @@ public class QuiboloyBoss extends AbstractEnemy implements BossEntity, Telegraph
 
             // Remove expired zones
             if (zone.isExpired()) {
+                if (navMesh != null) navMesh.removeTileCost(zone.x, zone.y, zone.radius, QuiboloyConfig.CORRUPTION_PATH_COST);
                 activeCorruptionZones.remove(i);
             }
         }
@@ -438,6 +438,7 @@ public class QuiboloyBoss extends AbstractEnemy implements BossEntity, Telegraph
                     QuiboloyConfig.CORRUPTION_DURATION
                 );
                 activeCorruptionZones.add(newZone);
+                if (navMesh != null) navMesh.addTileCost(newZone.x, newZone.y, newZone.radius, QuiboloyConfig.CORRUPTION_PATH_COST);
 
                 // Initial damage to player if in range
                 if (distance <= QuiboloyConfig.CORRUPTION_RANGE) {
@@ -552,6 +553,18 @@ public class QuiboloyBoss extends AbstractEnemy implements BossEntity, Telegraph
         return new Animation<>(frameDuration, frames, Animation.PlayMode.LOOP);
     }
     
+    @Override
+    public void dispose() {
+        // Zones still on the ground when the boss goes away must not keep their path cost
+        if (navMesh != null) {
+            for (CorruptionZone zone : activeCorruptionZones) {
+                navMesh.removeTileCost(zone.x, zone.y, zone.radius, QuiboloyConfig.CORRUPTION_PATH_COST);
+            }
+        }
+        activeCorruptionZones.clear();
+        super.dispose();
+    }
+
     @Override
     protected void disposeTextures() {
         // CRITICAL MEMORY LEAK FIX: Dispose all owned textures and atlases
@@ -43,6 +43,7 @@ public final class QuiboloyConfig {
     public static float CORRUPTION_DURATION = 8.0f;  // how long it lasts
     public static int   CORRUPTION_DAMAGE = 10;      // damage per tick (reduced by 10)
     public static float CORRUPTION_TICK_RATE = 0.4f; // faster ticks than poison
+    public static float CORRUPTION_PATH_COST = 8.0f; // extra pathfinding cost per tile inside a zone
 
     // FOLLOWER SUMMON - Summons multiple Follower minions
     public static float SUMMON_TELEGRAPH = 1.8f;     // seconds
@@ -73,6 +73,7 @@ public class Security extends AbstractEnemy {
 
         // Core behavior
         pathfindingChaseBehavior(delta, player);
+        if (!animated) return;
 
         stateTime += delta;
 
@@ -79,6 +79,7 @@ public class Survivor extends AbstractEnemy {
 
         // Core behavior
         pathfindingChaseBehavior(delta, player);
+        if (!animated) return;
 
         stateTime += delta;
 
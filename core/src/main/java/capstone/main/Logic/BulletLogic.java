@@ -1,54 +1,29 @@
 package capstone.main.Logic;
 
 import capstone.main.Characters.AbstractPlayer;
+import capstone.main.Characters.VicoSotto;
+import capstone.main.Managers.ContactTag;
 import capstone.main.Managers.PhysicsManager;
+import capstone.main.Managers.ProjectileSystem;
 import capstone.main.Managers.SoundManager;
 import capstone.main.Sprites.Bullet;
 import capstone.main.Characters.Ranged;
-import capstone.main.Enemies.AbstractEnemy;
-import capstone.main.Sprites.DamageNumber;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import java.util.ArrayList;
 
 public class BulletLogic {
-    private final Ranged player;
     private final PhysicsManager physicsManager; // add this
+    private final Bullet bulletLook = new Bullet();
 
-    public BulletLogic(Ranged player, PhysicsManager physicsManager) {
-        this.player = player;
+    public BulletLogic(PhysicsManager physicsManager) {
         this.physicsManager = physicsManager; // store reference
     }
 
-    public void update(float delta) {
-        ArrayList<Bullet> bullets = player.getBullets();
-        for (int i = bullets.size() - 1; i >= 0; i--) {
-            Bullet b = bullets.get(i);
-            b.update(delta);
-
-            // Remove bullets that expired naturally or via collision
-            if (b.getLifetime() <= 0) {
-                // MEMORY LEAK FIX: Properly destroy Box2D body and nullify reference
-                if (b.getBody() != null) {
-                    try {
-                        b.getBody().getWorld().destroyBody(b.getBody());
-                        b.body = null; // Nullify to prevent double-disposal
-                    } catch (Exception e) {
-                        // Body may have already been destroyed by physics world
-                        System.err.println("Failed to destroy bullet body: " + e.getMessage());
-                    }
-                }
-                bullets.remove(i);
-            }
-        }
-    }
-
+    // Bullets fly and hit inside PhysicsManager.step (ProjectileSystem); this class spawns and draws them
 
     public void spawnBullet(Ranged player, float weaponRotationRad) {
 
         AbstractPlayer p = (AbstractPlayer) player;
-        ArrayList<Bullet> bullets = player.getBullets();
 
         float maxDispersionDeg = 1.5f;
         float maxDispersionRad = maxDispersionDeg * MathUtils.degreesToRadians;
@@ -70,16 +45,22 @@ public class BulletLogic {
         startX += offset.x;
         startY += offset.y;
 
-        bullets.add(new Bullet(startX, startY, dir, p, physicsManager.getWorld()));
+        // Vico Sotto bullets may penetrate enemies
+        physicsManager.getProjectiles().spawn(ContactTag.BULLET, startX, startY, dir.x, dir.y,
+            Bullet.SPEED, Bullet.LIFETIME, Bullet.RADIUS, Bullet.KNOCKBACK, p instanceof VicoSotto, p);
 
         SoundManager.getInstance().playSound("vico_shoot");
     }
 
-    public void render(com.badlogic.gdx.graphics.g2d.SpriteBatch batch, com.badlogic.gdx.graphics.OrthographicCamera camera) {
+    /** @param alpha fraction of a simulation tick since the last one, as for SpriteInterpolator */
+    public void render(com.badlogic.gdx.graphics.g2d.SpriteBatch batch, com.badlogic.gdx.graphics.OrthographicCamera camera, float alpha) {
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
-        for (Bullet b : player.getBullets()) {
-            b.draw(batch);
+        ProjectileSystem projectiles = physicsManager.getProjectiles();
+        for (int i = 0; i < projectiles.size(); i++) {
+            if (projectiles.kindAt(i) != ContactTag.BULLET) continue;
+            bulletLook.draw(batch, projectiles.xAt(i, alpha), projectiles.yAt(i, alpha),
+                projectiles.velocityXAt(i), projectiles.velocityYAt(i), projectiles.traveledAt(i));
         }
         batch.end();
     }
@@ -0,0 +1,26 @@
+package capstone.main.Logic;
+
+/**
+ * Parameterized configuration for enemy simulation level of detail (see EnemyLogic).
+ * Enemies on screen or near the player tick every frame; the rest of the aggro range
+ * ticks at a reduced rate without animation; idle enemies beyond that sleep.
+ */
+
+public final class EnemyLodConfig {
+    private EnemyLodConfig() {}
+
+    // FULL tier: on screen (plus margin) or within this distance of the player
+    public static float NEAR_RADIUS = 10f;        // world units
+    public static float VIEW_MARGIN = 2f;         // world units around the camera view
+
+    // REDUCED tier: everything between FULL and DORMANT
+    public static float REDUCED_TICK_INTERVAL = 0.1f; // seconds between ticks (10 Hz)
+
+    // DORMANT tier: idle enemies farther than this (and than their own chase distance plus
+    // one player region) keep sleeping bodies and are re-checked only on region changes
+    public static float DORMANT_RADIUS = 16f;     // world units
+    public static float PLAYER_REGION_SIZE = 8f;  // world units per region side
+
+    // Tier population is logged this often
+    public static float METRICS_LOG_INTERVAL = 5f; // seconds
+}
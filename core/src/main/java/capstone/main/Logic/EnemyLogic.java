@@ -3,6 +3,7 @@ package capstone.main.Logic;
 import capstone.main.Enemies.*;
 import capstone.main.Characters.AbstractPlayer;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 
 import java.util.ArrayList;
 
@@ -12,6 +13,13 @@ public class EnemyLogic {
     private final AbstractPlayer player;
     private final capstone.main.Managers.ObjectiveManager objectiveManager;
 
+    // Level-of-detail scheduling (thresholds in EnemyLodConfig)
+    private OrthographicCamera camera;
+    private int playerRegionX = Integer.MIN_VALUE;
+    private int playerRegionY = Integer.MIN_VALUE;
+    private int fullCount, reducedCount, dormantCount;
+    private float lodLogTimer = 0f;
+
     public EnemyLogic(EnemySpawner spawner, ArrayList<AbstractEnemy> enemies, AbstractPlayer player, capstone.main.Managers.ObjectiveManager objectiveManager) {
         this.spawner = spawner;
         this.enemies = enemies;
@@ -20,6 +28,7 @@ public class EnemyLogic {
     }
 
     public void update(float delta) {
+        spawner.setPlayerPosition(player.getBody().getPosition().x, player.getBody().getPosition().y);
         spawner.update(delta);
 
         // Check deferred boss spawn trigger near center (or scheduled point)
@@ -36,6 +45,17 @@ public class EnemyLogic {
             }
         }
 
+        // Dormant enemies are only re-tiered when the player crosses into another region,
+        // or as soon as they turn aggro (e.g. hit by a stray shot from off-screen)
+        float playerX = player.getBody().getPosition().x;
+        float playerY = player.getBody().getPosition().y;
+        int regionX = (int) Math.floor(playerX / EnemyLodConfig.PLAYER_REGION_SIZE);
+        int regionY = (int) Math.floor(playerY / EnemyLodConfig.PLAYER_REGION_SIZE);
+        boolean regionChanged = regionX != playerRegionX || regionY != playerRegionY;
+        playerRegionX = regionX;
+        playerRegionY = regionY;
+        fullCount = reducedCount = dormantCount = 0;
+
         // Update enemies and check for melee attacks
         // Use indexed loop to avoid ConcurrentModificationException when enemies spawn during update
         int enemyCount = enemies.size();
@@ -44,16 +64,37 @@ public class EnemyLogic {
             if (i >= enemies.size()) break;
 
             AbstractEnemy e = enemies.get(i);
-            if (!e.isDead()) {
-                e.update(delta, player);
+            if (e.isDead()) continue;
 
-                // Check if enemy is close enough to attack player
-                checkMeleeAttack(e);
+            if (e.getLodTier() == AbstractEnemy.LOD_DORMANT && !e.isAggro() && !regionChanged) {
+                dormantCount++;
+                continue;
+            }
+            int tier = classify(e, playerX, playerY);
+            e.setLodTier(tier);
+            if (tier == AbstractEnemy.LOD_DORMANT) {
+                dormantCount++;
+                continue;
             }
+            float owed = e.accrueLodDelta(delta);
+            if (tier == AbstractEnemy.LOD_REDUCED) {
+                reducedCount++;
+                if (owed < EnemyLodConfig.REDUCED_TICK_INTERVAL) continue;
+            } else {
+                fullCount++;
+            }
+            e.update(e.takeLodDelta(), player);
+
+            // Check if enemy is close enough to attack player
+            checkMeleeAttack(e);
         }
 
-        // Resolve collisions
-        EnemySpawner.resolveEnemyCollisions(enemies, delta);
+        lodLogTimer += delta;
+        if (lodLogTimer >= EnemyLodConfig.METRICS_LOG_INTERVAL) {
+            lodLogTimer = 0f;
+            Gdx.app.log("EnemyLOD", "full=" + fullCount + " reduced=" + reducedCount + " dormant=" + dormantCount
+                + " records=" + spawner.getDormantCount());
+        }
 
         // Remove dead enemies safely
         for (int i = enemies.size() - 1; i >= 0; i--) {
@@ -71,6 +112,42 @@ public class EnemyLogic {
         }
     }
 
+    /** Camera whose view decides which enemies count as visible. */
+    public void setCamera(OrthographicCamera camera) {
+        this.camera = camera;
+    }
+
+    public int getFullTierCount() { return fullCount; }
+    public int getReducedTierCount() { return reducedCount; }
+    public int getDormantTierCount() { return dormantCount; }
+
+    private int classify(AbstractEnemy e, float playerX, float playerY) {
+        // Bosses run their skill timers and telegraphs at full rate wherever they are
+        if (e instanceof BossEntity) return AbstractEnemy.LOD_FULL;
+
+        float ex = e.getBody().getPosition().x;
+        float ey = e.getBody().getPosition().y;
+        float dx = ex - playerX;
+        float dy = ey - playerY;
+        float dist2 = dx * dx + dy * dy;
+        float near = EnemyLodConfig.NEAR_RADIUS;
+        if (dist2 <= near * near || isVisible(ex, ey)) return AbstractEnemy.LOD_FULL;
+
+        // Dormant only while idle and far enough that the player can't reach aggro range
+        // without first changing region (a region's diagonal is under 1.5 sides)
+        float dormant = Math.max(EnemyLodConfig.DORMANT_RADIUS,
+            e.getDefaultChaseDistance() + EnemyLodConfig.PLAYER_REGION_SIZE * 1.5f);
+        if (!e.isAggro() && dist2 > dormant * dormant) return AbstractEnemy.LOD_DORMANT;
+        return AbstractEnemy.LOD_REDUCED;
+    }
+
+    private boolean isVisible(float x, float y) {
+        if (camera == null) return false;
+        float halfW = camera.viewportWidth * camera.zoom / 2f + EnemyLodConfig.VIEW_MARGIN;
+        float halfH = camera.viewportHeight * camera.zoom / 2f + EnemyLodConfig.VIEW_MARGIN;
+        return Math.abs(x - camera.position.x) <= halfW && Math.abs(y - camera.position.y) <= halfH;
+    }
+
     private void checkMeleeAttack(AbstractEnemy enemy) {
         // Calculate distance between enemy and player
         float enemyX = enemy.getBody().getPosition().x;
@@ -2,54 +2,29 @@ package capstone.main.Logic;
 
 import capstone.main.Characters.AbstractPlayer;
 import capstone.main.Characters.MagicRanged;
-import capstone.main.Characters.Quiboloy;
-import capstone.main.Enemies.AbstractEnemy;
+import capstone.main.Managers.ContactTag;
+import capstone.main.Managers.ProjectileSystem;
 import capstone.main.Managers.SoundManager;
-import capstone.main.Sprites.DamageNumber;
 import capstone.main.Sprites.Fireball;
 import capstone.main.Managers.PhysicsManager;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import java.util.ArrayList;
 
 public class FireballLogic {
 
-    private final MagicRanged player;
     private final PhysicsManager physicsManager;
+    private final Fireball fireballLook = new Fireball();
 
-    public FireballLogic(Quiboloy player, PhysicsManager physicsManager) {
-        this.player = player;
+    public FireballLogic(PhysicsManager physicsManager) {
         this.physicsManager = physicsManager;
     }
 
-    /** Update all fireballs (position, lifetime, physics) and cooldown */
-    public void update(float delta) {
-        ArrayList<Fireball> fireballs = player.getFireballs();
-        for (int i = fireballs.size() - 1; i >= 0; i--) {
-            Fireball f = fireballs.get(i);
-            f.update(delta);
+    // Fireballs fly and explode inside PhysicsManager.step (ProjectileSystem); this class spawns and draws them
 
-            if (f.getLifetime() <= 0) {
-                // MEMORY LEAK FIX: Properly destroy Box2D body and nullify reference
-                if (f.getBody() != null) {
-                    try {
-                        f.getBody().getWorld().destroyBody(f.getBody());
-                        f.body = null; // Nullify to prevent double-disposal
-                    } catch (Exception e) {
-                        // Body may have already been destroyed by physics world
-                        System.err.println("Failed to destroy fireball body: " + e.getMessage());
-                    }
-                }
-                fireballs.remove(i);
-            }
-        }
-    }
     /** Spawn a new fireball from player */
     public void spawnFireball(MagicRanged player, float weaponRotationRad) {
 
         AbstractPlayer p = (AbstractPlayer) player;
-        ArrayList<Fireball> fireballs = player.getFireballs();
 
         // --- Dispersion ---
         float maxDispersionDeg = 1.5f;
@@ -69,17 +44,22 @@ public class FireballLogic {
         float startY = p.getSprite().getY() + p.getSprite().getHeight() / 2f; // always centered vertically
 
         // Create fireball
-        fireballs.add(new Fireball(startX, startY, dir, p, p.getDamage(), physicsManager.getWorld()));
+        physicsManager.getProjectiles().spawn(ContactTag.FIREBALL, startX, startY, dir.x, dir.y,
+            Fireball.SPEED, Fireball.LIFETIME, Fireball.RADIUS, Fireball.KNOCKBACK, false, p);
 
         // Play sound
         SoundManager.getInstance().playSound("quiboloy_fireball");
     }
 
-    public void render(com.badlogic.gdx.graphics.g2d.SpriteBatch batch, com.badlogic.gdx.graphics.OrthographicCamera camera) {
+    /** @param alpha fraction of a simulation tick since the last one, as for SpriteInterpolator */
+    public void render(com.badlogic.gdx.graphics.g2d.SpriteBatch batch, com.badlogic.gdx.graphics.OrthographicCamera camera, float alpha) {
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
-        for (Fireball f : player.getFireballs()) {
-            f.draw(batch);
+        ProjectileSystem projectiles = physicsManager.getProjectiles();
+        for (int i = 0; i < projectiles.size(); i++) {
+            if (projectiles.kindAt(i) != ContactTag.FIREBALL) continue;
+            fireballLook.draw(batch, projectiles.xAt(i, alpha), projectiles.yAt(i, alpha),
+                projectiles.velocityXAt(i), projectiles.velocityYAt(i), projectiles.traveledAt(i));
         }
         batch.end();
     }
@@ -4,8 +4,10 @@ package capstone.main.Logic;
 import capstone.main.Characters.AbstractPlayer;
 import capstone.main.Characters.Melee;
 import capstone.main.Enemies.AbstractEnemy;
+import capstone.main.Enemies.EnemySpatialHash;
 import capstone.main.Managers.ScreenShake;
 import capstone.main.Managers.SoundManager;
+import capstone.main.Managers.WallRegistry;
 import capstone.main.Sprites.DamageNumber;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -26,6 +28,8 @@ public class PunchLogic {
     // Knockback tuning
     private static final float KNOCKBACK_FORCE = 5f;
 
+    private final AbstractEnemy[] candidates = new AbstractEnemy[32];
+
     public PunchLogic(AbstractPlayer playerBase,
                       Melee melee,
                       ArrayList<AbstractEnemy> enemies,
@@ -48,7 +52,6 @@ public class PunchLogic {
      * Execute the punch — range check, damage, hit sound, shake, knockback.
      */
     public void performPunch(float weaponRotationRad) {
-        final java.util.List<com.badlogic.gdx.math.Rectangle> walls = capstone.main.Managers.WallRegistry.getWalls();
         // Compute player center from sprite (provided by AbstractPlayer)
         Vector2 playerCenter = new Vector2(
             playerBase.getSprite().getX() + playerBase.getSprite().getWidth() / 2f,
@@ -61,8 +64,11 @@ public class PunchLogic {
         Vector2 dir = new Vector2((float) Math.cos(weaponRotationRad), (float) Math.sin(weaponRotationRad));
 
         int hits = 0;
-        for (AbstractEnemy enemy : enemies) {
-            if (enemy.isDead()) continue;
+        // The capsule around the cleave line holds the whole strip; the exact test below trims it
+        int candidateCount = EnemySpatialHash.shared().queryCapsule(playerCenter.x, playerCenter.y,
+            playerCenter.x + dir.x * length, playerCenter.y + dir.y * length, halfWidth, candidates);
+        for (int c = 0; c < candidateCount; c++) {
+            AbstractEnemy enemy = candidates[c];
             Vector2 p = enemy.getBody().getPosition();
             // Vector from player to enemy
             Vector2 toP = new Vector2(p).sub(playerCenter);
@@ -73,7 +79,7 @@ public class PunchLogic {
             if (perp > halfWidth) continue;
 
             // Blocked by wall? Skip if any wall intersects line of sight
-            if (segmentHitsAnyWall(playerCenter, p, walls)) continue;
+            if (WallRegistry.isBlocked(playerCenter.x, playerCenter.y, p.x, p.y)) continue;
 
             float damage = melee.getMeleeDamage();
             enemy.takeHit(damage);
@@ -95,15 +101,4 @@ public class PunchLogic {
         }
 
        }
-
-private boolean segmentHitsAnyWall(Vector2 a, Vector2 b, java.util.List<com.badlogic.gdx.math.Rectangle> walls) {
-           if (walls == null || walls.isEmpty()) return false;
-           float minX = Math.min(a.x, b.x), minY = Math.min(a.y, b.y);
-           float maxX = Math.max(a.x, b.x), maxY = Math.max(a.y, b.y);
-           for (com.badlogic.gdx.math.Rectangle r : walls) {
-               if (r.x > maxX || r.x + r.width < minX || r.y > maxY || r.y + r.height < minY) continue;
-               if (com.badlogic.gdx.math.Intersector.intersectSegmentRectangle(a, b, r)) return true;
-           }
-           return false;
-    }
 }
@@ -0,0 +1,21 @@
+package capstone.main.Logic;
+
+/**
+ * Parameterized configuration for the fixed-rate simulation loop in Game.render. Physics and
+ * gameplay logic advance in ticks of 1 / TICK_RATE seconds however long a frame takes; sprites
+ * are interpolated between the last two ticks when drawn.
+ */
+
+public final class SimulationConfig {
+    private SimulationConfig() {}
+
+    public static int TICK_RATE = 60;    // simulation ticks per second
+
+    // Ticks a single frame may run to catch up; after a longer stall the rest of the backlog is
+    // dropped (the game slows down briefly instead of spending ever longer frames catching up)
+    public static int MAX_SUBSTEPS = 5;
+
+    public static float tickSeconds() {
+        return 1f / TICK_RATE;
+    }
+}
@@ -1,49 +1,36 @@
 package capstone.main.Managers;
 
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 
-public class BoundaryManager {
-    private final float worldWidth, worldHeight;
-    private final World world;
+public final class BoundaryManager {
+    private static final float THICKNESS = 0.5f;
 
-    public BoundaryManager(float worldWidth, float worldHeight, World world) {
-        this.worldWidth = worldWidth;
-        this.worldHeight = worldHeight;
-        this.world = world;
-        createWorldBounds();
-    }
-
-    private void createWorldBounds() {
-        float thickness = 0.5f;
+    private BoundaryManager() {}
 
+    /** Builds the four bounding walls of the map into its physics group. */
+    public static void build(MapPhysicsGroup group, float worldWidth, float worldHeight) {
         // Bottom
-        createWall(worldWidth / 2f, thickness / 2f, worldWidth, thickness);
+        createWall(group, worldWidth / 2f, THICKNESS / 2f, worldWidth, THICKNESS);
         // Top
-        createWall(worldWidth / 2f, worldHeight - thickness / 2f, worldWidth, thickness);
+        createWall(group, worldWidth / 2f, worldHeight - THICKNESS / 2f, worldWidth, THICKNESS);
         // Left
-        createWall(0f, worldHeight / 2f, thickness, worldHeight);
+        createWall(group, 0f, worldHeight / 2f, THICKNESS, worldHeight);
         // Right
-        createWall(worldWidth, worldHeight / 2f, thickness, worldHeight);
+        createWall(group, worldWidth, worldHeight / 2f, THICKNESS, worldHeight);
     }
 
-    private void createWall(float centerX, float centerY, float width, float height) {
+    private static void createWall(MapPhysicsGroup group, float centerX, float centerY, float width, float height) {
         BodyDef def = new BodyDef();
         def.type = BodyDef.BodyType.StaticBody;
         def.position.set(centerX, centerY);
 
-        Body wall = world.createBody(def);
+        Body wall = group.getWorld().createBody(def);
 
         PolygonShape shape = new PolygonShape();
         shape.setAsBox(width / 2f, height / 2f);
 
         wall.createFixture(shape, 0);
         shape.dispose();
-    }
-
-    public Vector2 clamp(Vector2 pos, float halfWidth, float halfHeight) {
-        float x = Math.max(halfWidth, Math.min(pos.x, worldWidth - halfWidth));
-        float y = Math.max(halfHeight, Math.min(pos.y, worldHeight - halfHeight));
-        return new Vector2(x, y);
+        group.add(wall);
     }
 }
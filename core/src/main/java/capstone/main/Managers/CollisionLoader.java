@@ -1,6 +1,7 @@
 package capstone.main.Managers;
 
 import capstone.main.CollisionBits;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
@@ -10,55 +11,100 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class CollisionLoader {
 
-    public static void buildCollision(World world, TiledMap map, String layerName, float ppm) {
-        buildCollision(world, map, layerName, ppm, true);
-    }
+    // Tiled coordinates are hand-placed floats; edges closer than this (in pixels) count as aligned
+    private static final float MERGE_EPSILON = 0.01f;
 
-    public static void buildCollision(World world, TiledMap map, String layerName, float ppm, boolean blockMovement) {
+    /**
+     * Builds the layer's rectangles, merged where their union is itself a rectangle, as
+     * fixtures of a single static body.
+     *
+     * @return the layer body, or null when the layer is missing or empty
+     */
+    public static Body buildCollision(World world, TiledMap map, String layerName, float ppm) {
+        ArrayList<Rectangle> source = getCollisionRectangles(map, layerName, 1f);
+        if (source.isEmpty()) return null;
 
-        MapLayer layer = map.getLayers().get(layerName);
-        if (layer == null) return;
+        ArrayList<Rectangle> merged = mergeRectangles(source);
 
-        for (MapObject obj : layer.getObjects()) {
-            if (!(obj instanceof RectangleMapObject)) continue;
-
-            Rectangle rect = ((RectangleMapObject) obj).getRectangle();
-
-            BodyDef bodyDef = new BodyDef();
-            bodyDef.type = BodyDef.BodyType.StaticBody;
-
-            float centerX = (rect.x + rect.width * 0.5f) / ppm;
-            float centerY = (rect.y + rect.height * 0.5f) / ppm;
-
-            Body body = world.createBody(bodyDef);
-
-            PolygonShape shape = new PolygonShape();
-            shape.setAsBox(
-                (rect.width * 0.5f) / ppm,
-                (rect.height * 0.5f) / ppm,
-                new Vector2(centerX, centerY),
-                0
-            );
-
-            FixtureDef fix = new FixtureDef();
-            fix.shape = shape;
-            fix.friction = 0.2f;
-            fix.filter.categoryBits = CollisionBits.WALL;
-            
-            if (blockMovement) {
-                // collisionLayer: Block ONLY players and enemies (NOT bullets)
-                fix.filter.maskBits = (short)(CollisionBits.PLAYER | CollisionBits.ENEMY);
-            } else {
-                // wallLayer: Block ONLY bullets (not player/enemy movement)
-                fix.filter.maskBits = CollisionBits.BULLET;
-            }
-            
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.StaticBody;
+        Body body = world.createBody(bodyDef);
+
+        PolygonShape shape = new PolygonShape();
+        Vector2 center = new Vector2();
+        FixtureDef fix = new FixtureDef();
+        fix.shape = shape;
+        fix.friction = 0.2f;
+        fix.filter.categoryBits = CollisionBits.WALL;
+        // Blocks movement only; projectiles test the wallLayer through WallRegistry instead
+        fix.filter.maskBits = (short)(CollisionBits.PLAYER | CollisionBits.ENEMY);
+
+        for (Rectangle rect : merged) {
+            center.set((rect.x + rect.width * 0.5f) / ppm, (rect.y + rect.height * 0.5f) / ppm);
+            shape.setAsBox((rect.width * 0.5f) / ppm, (rect.height * 0.5f) / ppm, center, 0);
             body.createFixture(fix).setUserData("solid");
-            shape.dispose();
         }
+        shape.dispose();
+
+        Gdx.app.log("CollisionLoader", layerName + ": " + source.size() + " bodies / fixtures -> 1 body, " + merged.size() + " fixtures");
+        return body;
+    }
+
+    /**
+     * Repeatedly joins pairs of rectangles whose union is exactly a rectangle: same span on one
+     * axis and touching or overlapping on the other, or one inside the other. Anything else is
+     * left alone, so the covered area never changes.
+     */
+    static ArrayList<Rectangle> mergeRectangles(List<Rectangle> rects) {
+        ArrayList<Rectangle> out = new ArrayList<>(rects.size());
+        for (Rectangle r : rects) {
+            if (r.width > 0f && r.height > 0f) out.add(new Rectangle(r));
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < out.size(); i++) {
+                Rectangle a = out.get(i);
+                for (int j = out.size() - 1; j > i; j--) {
+                    Rectangle b = out.get(j);
+                    if (!unionIsRectangle(a, b)) continue;
+                    float minX = Math.min(a.x, b.x);
+                    float minY = Math.min(a.y, b.y);
+                    float maxX = Math.max(a.x + a.width, b.x + b.width);
+                    float maxY = Math.max(a.y + a.height, b.y + b.height);
+                    a.set(minX, minY, maxX - minX, maxY - minY);
+                    out.set(j, out.get(out.size() - 1));
+                    out.remove(out.size() - 1);
+                    changed = true;
+                }
+            }
+        }
+        return out;
+    }
+
+    private static boolean unionIsRectangle(Rectangle a, Rectangle b) {
+        float aRight = a.x + a.width, aTop = a.y + a.height;
+        float bRight = b.x + b.width, bTop = b.y + b.height;
+        boolean sameX = near(a.x, b.x) && near(aRight, bRight);
+        boolean sameY = near(a.y, b.y) && near(aTop, bTop);
+        if (sameX && a.y <= bTop + MERGE_EPSILON && b.y <= aTop + MERGE_EPSILON) return true;
+        if (sameY && a.x <= bRight + MERGE_EPSILON && b.x <= aRight + MERGE_EPSILON) return true;
+        return contains(a, aRight, aTop, b, bRight, bTop) || contains(b, bRight, bTop, a, aRight, aTop);
+    }
+
+    private static boolean contains(Rectangle outer, float outerRight, float outerTop,
+                                    Rectangle inner, float innerRight, float innerTop) {
+        return outer.x <= inner.x + MERGE_EPSILON && outer.y <= inner.y + MERGE_EPSILON
+            && outerRight >= innerRight - MERGE_EPSILON && outerTop >= innerTop - MERGE_EPSILON;
+    }
+
+    private static boolean near(float a, float b) {
+        return Math.abs(a - b) <= MERGE_EPSILON;
     }
 
     public static ArrayList<Rectangle> getCollisionRectangles(TiledMap map, String layerName, float scale) {
@@ -0,0 +1,68 @@
+package capstone.main.Managers;
+
+/**
+ * Projectile hits found during one physics tick, in parallel arrays. The projectile (a
+ * ProjectileSystem slot) is always the source; the target is an enemy or a wall. Grows by
+ * doubling if a tick ever records more than it holds; enemy references are cleared after
+ * each batch so the buffer keeps nothing alive.
+ */
+final class ContactEventBuffer {
+    int[] sourceType, sourceId;
+    int[] targetType;
+    float[] x, y;   // point of impact
+    float[] vx, vy; // projectile velocity at impact
+    Object[] target;
+    int count;
+
+    ContactEventBuffer(int capacity) {
+        allocate(capacity);
+    }
+
+    void add(int sourceType, int sourceId, int targetType, Object target,
+             float px, float py, float pvx, float pvy) {
+        if (count == x.length) grow();
+        this.sourceType[count] = sourceType;
+        this.sourceId[count] = sourceId;
+        this.targetType[count] = targetType;
+        this.target[count] = target;
+        x[count] = px;
+        y[count] = py;
+        vx[count] = pvx;
+        vy[count] = pvy;
+        count++;
+    }
+
+    void clear() {
+        for (int i = 0; i < count; i++) {
+            target[i] = null;
+        }
+        count = 0;
+    }
+
+    private void grow() {
+        int n = count;
+        int[] st = sourceType, si = sourceId, tt = targetType;
+        float[] ox = x, oy = y, ovx = vx, ovy = vy;
+        Object[] ta = target;
+        allocate(n * 2);
+        System.arraycopy(st, 0, sourceType, 0, n);
+        System.arraycopy(si, 0, sourceId, 0, n);
+        System.arraycopy(tt, 0, targetType, 0, n);
+        System.arraycopy(ox, 0, x, 0, n);
+        System.arraycopy(oy, 0, y, 0, n);
+        System.arraycopy(ovx, 0, vx, 0, n);
+        System.arraycopy(ovy, 0, vy, 0, n);
+        System.arraycopy(ta, 0, target, 0, n);
+    }
+
+    private void allocate(int capacity) {
+        sourceType = new int[capacity];
+        sourceId = new int[capacity];
+        targetType = new int[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        target = new Object[capacity];
+    }
+}
@@ -0,0 +1,14 @@
+package capstone.main.Managers;
+
+/**
+ * Integer type tags for PhysicsManager's hit pipeline: projectile kinds and what they hit.
+ * Hits come from ProjectileSystem's sweep rather than Box2D contacts, so fixtures carry no tag.
+ */
+public final class ContactTag {
+    public static final int WALL = 1;
+    public static final int ENEMY = 2;
+    public static final int BULLET = 3;
+    public static final int FIREBALL = 4;
+
+    private ContactTag() {}
+}
@@ -4,9 +4,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.maps.objects.*;
 import com.badlogic.gdx.maps.tiled.*;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
-import com.badlogic.gdx.math.*;
-import com.badlogic.gdx.physics.box2d.*;
-import com.badlogic.gdx.utils.Array;
 
 public class MapManager {
     private TiledMap tiledMap;
@@ -16,6 +13,7 @@ public class MapManager {
     private float worldWidth, worldHeight;
     private final float scale = 1 / 32f; // 32px → 1 world unit
     private String currentMapPath;
+    private MapPhysicsGroup staticBodies; // collision layers and bounds of the loaded map
 
     public MapManager(PhysicsManager physics) {
         this.physics = physics;
@@ -27,8 +25,13 @@ public class MapManager {
             Gdx.app.log("MapManager", "LOADING MAP: " + mapPath);
             Gdx.app.log("MapManager", "========================================");
 
-            // Step 1: Clear physics bodies first (most important!)
-            clearStaticBodies();
+            // Step 1: Clear the previous map's physics bodies first (most important!)
+            if (staticBodies != null) {
+                int count = staticBodies.size();
+                staticBodies.destroyAll();
+                staticBodies = null;
+                Gdx.app.log("MapManager", "✓ Cleared " + count + " static bodies");
+            }
 
             // Step 2: Dispose old resources
             if (renderer != null) {
@@ -53,11 +56,6 @@ public class MapManager {
                 tiledMap = null;
             }
 
-            // Small delay to ensure cleanup (helps with race conditions)
-            try {
-                Thread.sleep(50);
-            } catch (InterruptedException ignored) {}
-
             // Step 3: Load new map
             Gdx.app.log("MapManager", "Loading new map file...");
             tiledMap = new TmxMapLoader().load(mapPath);
@@ -73,14 +71,15 @@ public class MapManager {
             worldHeight = ground.getHeight() * ground.getTileHeight() * scale;
             Gdx.app.log("MapManager", "✓ Dimensions: " + worldWidth + " x " + worldHeight);
 
-            // Step 6: Build collision for new map
+            // Step 6: Build collision and world bounds for new map
             Gdx.app.log("MapManager", "Building collision...");
-            CollisionLoader.buildCollision(physics.getWorld(), tiledMap, "collisionLayer", 32f, true);
+            staticBodies = new MapPhysicsGroup(physics.getWorld());
+            staticBodies.add(CollisionLoader.buildCollision(physics.getWorld(), tiledMap, "collisionLayer", 32f));
             Gdx.app.log("MapManager", "✓ Collision layer built (blocks movement ONLY)");
+            // wallLayer gets no body: projectiles are swept against WallRegistry's index
 
-            // Build wall collision (for blocking bullets/fireballs/punches ONLY, not movement)
-            CollisionLoader.buildCollision(physics.getWorld(), tiledMap, "wallLayer", 32f, false);
-            Gdx.app.log("MapManager", "✓ Wall layer built (blocks projectiles ONLY)");
+            BoundaryManager.build(staticBodies, worldWidth, worldHeight);
+            Gdx.app.log("MapManager", "✓ World bounds built");
 
             this.currentMapPath = mapPath;
 
@@ -96,51 +95,6 @@ public class MapManager {
         }
     }
 
-    /**
-     * Clear all static physics bodies (map collision)
-     * This MUST be done before loading a new map
-     */
-    private void clearStaticBodies() {
-        try {
-            // Wait for physics world to unlock
-            int waitCount = 0;
-            while (physics.getWorld().isLocked()) {
-                Gdx.app.log("MapManager", "Waiting for physics unlock... (" + waitCount + ")");
-                try {
-                    Thread.sleep(10);
-                } catch (InterruptedException ignored) {}
-                waitCount++;
-                if (waitCount > 100) {
-                    Gdx.app.error("MapManager", "Physics world stuck locked!");
-                    break;
-                }
-            }
-
-            Array<Body> bodies = new Array<>();
-            physics.getWorld().getBodies(bodies);
-
-            int staticCount = 0;
-
-            // Destroy only STATIC bodies (map collision)
-            // Dynamic bodies (player, enemies) are handled by Game.java
-            for (Body body : bodies) {
-                if (body.getType() == BodyDef.BodyType.StaticBody) {
-                    try {
-                        physics.getWorld().destroyBody(body);
-                        staticCount++;
-                    } catch (Exception e) {
-                        Gdx.app.error("MapManager", "Could not destroy body", e);
-                    }
-                }
-            }
-
-            Gdx.app.log("MapManager", "✓ Cleared " + staticCount + " static bodies");
-
-        } catch (Exception e) {
-            Gdx.app.error("MapManager", "Error clearing physics bodies", e);
-        }
-    }
-
     public OrthogonalTiledMapRenderer getRenderer() {
         return renderer;
     }
@@ -159,6 +113,8 @@ public class MapManager {
 
     public void dispose() {
         System.out.println("MEMORY CLEANUP: MapManager disposing resources");
+        // The physics world is disposed first and takes these bodies with it
+        staticBodies = null;
         try {
             if (renderer != null) {
                 renderer.dispose();
@@ -0,0 +1,47 @@
+package capstone.main.Managers;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+
+import java.util.ArrayList;
+
+/**
+ * The static bodies one loaded map owns: its collision layers and world bounds. MapManager
+ * creates a group per map and destroys it when the next map loads, so teardown walks only
+ * these bodies instead of every body in the world.
+ *
+ * Teardown must happen outside World.step; map transitions run after the frame's simulation
+ * ticks, where the world is never locked.
+ */
+public final class MapPhysicsGroup {
+    private final World world;
+    private final ArrayList<Body> bodies = new ArrayList<>();
+
+    public MapPhysicsGroup(World world) {
+        this.world = world;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    /** Takes ownership of the body; null is ignored (e.g. a map without that layer). */
+    public void add(Body body) {
+        if (body != null) bodies.add(body);
+    }
+
+    public int size() {
+        return bodies.size();
+    }
+
+    /** Destroys every body in the group and empties it. */
+    public void destroyAll() {
+        if (world.isLocked()) {
+            throw new IllegalStateException("Map physics torn down during a world step");
+        }
+        for (int i = bodies.size() - 1; i >= 0; i--) {
+            world.destroyBody(bodies.get(i));
+        }
+        bodies.clear();
+    }
+}
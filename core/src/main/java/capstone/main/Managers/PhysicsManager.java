@@ -1,9 +1,7 @@
 package capstone.main.Managers;
 
-import capstone.main.Characters.VicoSotto;
 import capstone.main.Enemies.AbstractEnemy;
-import capstone.main.Sprites.Bullet;
-import capstone.main.Sprites.Fireball;
+import capstone.main.Enemies.EnemySpatialHash;
 import capstone.main.Sprites.DamageNumber;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -20,94 +18,111 @@ public class PhysicsManager {
    private ArrayList<AbstractEnemy> enemies;
    // Configurable AOE radius for Fireball explosions
    private float fireballAoeRadius = 2.75f;
+   private final AbstractEnemy[] aoeHits = new AbstractEnemy[64];
+   // Player projectiles fly outside Box2D; their hits for a tick are resolved in one pass
+   private final ProjectileSystem projectiles = new ProjectileSystem();
+   private final ContactEventBuffer contacts = new ContactEventBuffer(64);
+   private int[] spentIds = new int[64]; // projectiles used up in the batch being processed
+   private int spentCount = 0;
+   private final Vector2 tmpCenter = new Vector2();
+   private final Vector2 tmpKnock = new Vector2();
+   // Damage number text for the last damage value; a batch's hits nearly always share one
+   private float labelDamage = Float.NaN;
+   private String label;
+   // Box2D solver iterations per step; set per world (see WorldMapManager.applySolverIterations)
+   private int velocityIterations = 10;
+   private int positionIterations = 5;
 
     public PhysicsManager() {
         world = new World(new Vector2(0, 0), true); // 0,0 gravity for top-down
-
-        world.setContactListener(new ContactListener() {
-            @Override
-            public void beginContact(Contact contact) {
-                handleCollision(contact.getFixtureA().getUserData(),
-                    contact.getFixtureB().getUserData());
-                handleCollision(contact.getFixtureB().getUserData(),
-                    contact.getFixtureA().getUserData());
-            }
-
-            @Override
-            public void endContact(Contact contact) {}
-            @Override
-            public void preSolve(Contact contact, Manifold oldManifold) {}
-            @Override
-            public void postSolve(Contact contact, ContactImpulse impulse) {}
-        });
+        EnemySpatialHash.shared().clear(); // entries from a previous world point at destroyed bodies
     }
 
     /**
-     * Handles collision between a projectile (Bullet/Fireball) and an enemy or wall.
+     * Resolves the projectile hits recorded by the last sweep. A projectile that has been used
+     * up (a bullet stopped, a fireball exploded) ignores the rest of its hits, so a fireball
+     * reaching two enemies and a wall in the same tick explodes once.
      */
-    private void handleCollision(Object projObj, Object targetObj) {
-        if (targetObj instanceof AbstractEnemy) {
-            AbstractEnemy enemy = (AbstractEnemy) targetObj;
-
-            if (projObj instanceof Bullet) {
-                Bullet bullet = (Bullet) projObj;
-                // Vico Sotto bullets: 50% chance to penetrate enemies
-                if (bullet.getOwner() instanceof VicoSotto) {
-                    if (!bullet.hasHit(enemy)) {
-                        applyDamageAndKnockback(enemy, bullet.getDamage(), bullet.getBody(), bullet.getKnockbackForce());
-                        bullet.markHit(enemy);
+    private void processContacts() {
+        for (int i = 0; i < contacts.count; i++) {
+            int projectile = contacts.sourceId[i];
+            if (isSpent(projectile)) continue;
+            boolean hitEnemy = contacts.targetType[i] == ContactTag.ENEMY;
+            float damage = projectiles.ownerAt(projectile).getDamage();
+            float knockback = projectiles.knockbackAt(projectile);
+
+            switch (contacts.sourceType[i]) {
+                case ContactTag.BULLET: {
+                    if (!hitEnemy) {
+                        projectiles.kill(projectile); // remove bullet
+                        markSpent(projectile);
+                        break;
+                    }
+                    AbstractEnemy enemy = (AbstractEnemy) contacts.target[i];
+                    // Vico Sotto bullets: 50% chance to penetrate enemies
+                    if (projectiles.piercesAt(projectile)) {
+                        // If already hit this enemy, ignore further contacts without stopping the bullet
+                        if (projectiles.hasHit(projectile, enemy)) break;
+                        applyDamageAndKnockback(enemy, damage, contacts.vx[i], contacts.vy[i], knockback);
                         // Roll 50% chance to continue ONLY on first time hitting this enemy
-                        if (MathUtils.randomBoolean(0.5f)) {
-                            // penetrate: keep bullet alive
-                        } else {
-                            bullet.setLifetime(0f); // bullet stops here
+                        if (!projectiles.markHit(projectile, enemy) || !MathUtils.randomBoolean(0.5f)) {
+                            projectiles.kill(projectile); // bullet stops here
+                            markSpent(projectile);
                         }
+                    } else {
+                        // Default: remove bullet on hit
+                        applyDamageAndKnockback(enemy, damage, contacts.vx[i], contacts.vy[i], knockback);
+                        projectiles.kill(projectile); // remove bullet
+                        markSpent(projectile);
                     }
-                    // If already hit this enemy, ignore further contacts without stopping the bullet
-                } else {
-                    // Default: remove bullet on hit
-                    applyDamageAndKnockback(enemy, bullet.getDamage(), bullet.getBody(), bullet.getKnockbackForce());
-                    bullet.setLifetime(0f); // remove bullet
+                    break;
                 }
-            } else if (projObj instanceof Fireball) {
-                Fireball fireball = (Fireball) projObj;
-                // Always ensure the directly hit enemy takes damage
-                applyDamageAndKnockback(enemy, fireball.getDamage(), fireball.getBody(), fireball.getKnockbackForce());
-                // On fireball impact with an enemy, also apply AOE damage to nearby enemies
-                Vector2 center = fireball.getBody().getPosition().cpy();
-                float radius = fireballAoeRadius; // AOE radius (configurable)
-                applyAOEDamage(center, radius, fireball.getDamage(), fireball.getKnockbackForce());
-                fireball.setLifetime(0f); // remove fireball
-            }
-        } else if (targetObj instanceof String && "solid".equals(targetObj)) {
-            // Projectile hit a wall
-            if (projObj instanceof Bullet) {
-                Bullet bullet = (Bullet) projObj;
-                bullet.setLifetime(0f); // remove bullet
-            } else if (projObj instanceof Fireball) {
-                Fireball fireball = (Fireball) projObj;
-                // Also explode on walls
-                Vector2 center = fireball.getBody().getPosition().cpy();
-                float radius = fireballAoeRadius; // AOE radius (configurable)
-                applyAOEDamage(center, radius, fireball.getDamage(), fireball.getKnockbackForce());
-                fireball.setLifetime(0f); // remove fireball
+                case ContactTag.FIREBALL: {
+                    if (hitEnemy) {
+                        // Always ensure the directly hit enemy takes damage
+                        applyDamageAndKnockback((AbstractEnemy) contacts.target[i], damage,
+                            contacts.vx[i], contacts.vy[i], knockback);
+                    }
+                    // Explode on enemies and walls alike: AOE damage around the impact
+                    tmpCenter.set(contacts.x[i], contacts.y[i]);
+                    applyAOEDamage(tmpCenter, fireballAoeRadius, damage, knockback);
+                    projectiles.kill(projectile); // remove fireball
+                    markSpent(projectile);
+                    break;
+                }
+                default:
+                    break;
             }
         }
+        contacts.clear();
+        spentCount = 0;
+    }
+
+    private boolean isSpent(int id) {
+        for (int i = 0; i < spentCount; i++) {
+            if (spentIds[i] == id) return true;
+        }
+        return false;
+    }
+
+    private void markSpent(int id) {
+        if (spentCount == spentIds.length) spentIds = java.util.Arrays.copyOf(spentIds, spentCount * 2);
+        spentIds[spentCount++] = id;
     }
 
     /**
-     * Apply damage and knockback to an enemy from a projectile body
+     * Apply damage and knockback to an enemy from a projectile moving with velocity (vx, vy)
      */
-    private void applyDamageAndKnockback(AbstractEnemy enemy, float damage, Body projectileBody, float knockback) {
+    private void applyDamageAndKnockback(AbstractEnemy enemy, float damage, float vx, float vy, float knockback) {
         enemy.takeHit(damage);
-        Vector2 knockDir = projectileBody.getLinearVelocity().cpy().nor();
+        Vector2 knockDir = tmpKnock.set(vx, vy).nor();
         enemy.getBody().applyLinearImpulse(knockDir.scl(knockback), enemy.getBody().getWorldCenter(), true);
 
         // Create damage number if damage number system is available
         if (damageNumbers != null && damageFont != null) {
             Vector2 enemyPos = enemy.getBody().getPosition();
             damageNumbers.add(new DamageNumber(
-                String.format("%.0f", damage),
+                damageLabel(damage),
                 enemyPos.x,
                 enemyPos.y,
                 damageFont,
@@ -116,6 +131,14 @@ public class PhysicsManager {
         }
     }
 
+    private String damageLabel(float damage) {
+        if (damage != labelDamage) {
+            label = String.format("%.0f", damage);
+            labelDamage = damage;
+        }
+        return label;
+    }
+
     /**
      * Set the damage number system for displaying projectile damage
      */
@@ -128,6 +151,10 @@ public class PhysicsManager {
         return world;
     }
 
+    public ProjectileSystem getProjectiles() {
+        return projectiles;
+    }
+
     /**
      * Provide the current enemy list for AOE processing
      */
@@ -144,38 +171,46 @@ public class PhysicsManager {
      */
     private void applyAOEDamage(Vector2 center, float radius, float damage, float knockback) {
         if (enemies == null) return;
-        float r2 = radius * radius;
-        for (int i = 0; i < enemies.size(); i++) {
-            AbstractEnemy e = enemies.get(i);
-            if (e == null || e.isDead()) continue;
+        int hitCount = EnemySpatialHash.shared().queryCircle(center.x, center.y, radius, aoeHits);
+        String text = damageLabel(damage);
+        for (int i = 0; i < hitCount; i++) {
+            AbstractEnemy e = aoeHits[i];
             Vector2 epos = e.getBody().getPosition();
             float dx = epos.x - center.x;
             float dy = epos.y - center.y;
-            float d2 = dx*dx + dy*dy;
-            if (d2 <= r2) {
-                // Deal damage
-                e.takeHit(damage);
-                // Radial knockback away from center
-                Vector2 dir = new Vector2(dx, dy);
-                if (dir.len2() > 1e-6f) dir.nor();
-                e.getBody().applyLinearImpulse(dir.scl(knockback), e.getBody().getWorldCenter(), true);
-
-                // Damage number
-                if (damageNumbers != null && damageFont != null) {
-                    damageNumbers.add(new DamageNumber(
-                        String.format("%.0f", damage),
-                        epos.x,
-                        epos.y,
-                        damageFont,
-                        Color.WHITE
-                    ));
-                }
+            // Deal damage
+            e.takeHit(damage);
+            // Radial knockback away from center
+            Vector2 dir = tmpKnock.set(dx, dy);
+            if (dir.len2() > 1e-6f) dir.nor();
+            e.getBody().applyLinearImpulse(dir.scl(knockback), e.getBody().getWorldCenter(), true);
+
+            // Damage number
+            if (damageNumbers != null && damageFont != null) {
+                damageNumbers.add(new DamageNumber(
+                    text,
+                    epos.x,
+                    epos.y,
+                    damageFont,
+                    Color.WHITE
+                ));
             }
         }
     }
 
+    public void setSolverIterations(int velocityIterations, int positionIterations) {
+        this.velocityIterations = velocityIterations;
+        this.positionIterations = positionIterations;
+    }
+
+    /** Advances the world by one fixed simulation tick. */
     public void step(float delta) {
-        world.step(delta, 10, 5); // typical velocity/position iterations
+        world.step(delta, velocityIterations, positionIterations);
+        // Bodies only move during the step, so area queries for the rest of the tick are exact
+        if (enemies != null) EnemySpatialHash.shared().rebuild(enemies);
+        projectiles.sweep(delta, contacts);
+        processContacts();
+        projectiles.compact();
     }
 
     public void dispose() {
@@ -0,0 +1,245 @@
+package capstone.main.Managers;
+
+import capstone.main.Characters.AbstractPlayer;
+import capstone.main.Enemies.AbstractEnemy;
+import capstone.main.Enemies.EnemySpatialHash;
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.Arrays;
+
+/**
+ * Player projectiles (bullets and fireballs) without Box2D bodies. Each tick every projectile
+ * sweeps the segment it covers against the wall index and the enemy spatial hash; the hits it
+ * finds, in order along the segment, go into PhysicsManager's contact batch, which decides
+ * what each hit does (damage, penetration, explosion) and kills the projectile when it's used up.
+ *
+ * State lives in parallel arrays indexed by slot. A slot is stable for the projectile's life
+ * within a tick; dead projectiles are compacted out (swap with the last) after hits resolve.
+ */
+public final class ProjectileSystem {
+    // Vico Sotto penetration remembers this many enemies per bullet; a bullet that would need
+    // more stops instead
+    private static final int MAX_PIERCE_HITS = 8;
+    private static final int MAX_CANDIDATES = 32;
+
+    private int count;
+    private int[] kind;          // ContactTag.BULLET or ContactTag.FIREBALL
+    private float[] x, y, vx, vy;
+    private float[] prevX, prevY; // position before the last tick, for drawing between ticks
+    private float[] lifetime;
+    private float[] radius;      // collision radius against enemies
+    private float[] knockback;
+    private float[] traveled;    // distance flown, for the spawn stretch effect
+    private boolean[] pierce;    // may pass through enemies (50% per new enemy)
+    private AbstractPlayer[] owner;
+    private AbstractEnemy[] hits; // MAX_PIERCE_HITS entries per slot
+    private int[] hitCount;
+
+    private final AbstractEnemy[] candidates = new AbstractEnemy[MAX_CANDIDATES];
+    private final float[] candidateT = new float[MAX_CANDIDATES];
+
+    public ProjectileSystem() {
+        allocate(64);
+    }
+
+    public void spawn(int kind, float x, float y, float dirX, float dirY, float speed, float lifetime,
+                      float radius, float knockback, boolean pierce, AbstractPlayer owner) {
+        if (count == this.x.length) grow();
+        float len = (float) Math.sqrt(dirX * dirX + dirY * dirY);
+        if (len < 1e-6f) return;
+        int i = count++;
+        this.kind[i] = kind;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.prevX[i] = x;
+        this.prevY[i] = y;
+        this.vx[i] = dirX / len * speed;
+        this.vy[i] = dirY / len * speed;
+        this.lifetime[i] = lifetime;
+        this.radius[i] = radius;
+        this.knockback[i] = knockback;
+        this.traveled[i] = 0f;
+        this.pierce[i] = pierce;
+        this.owner[i] = owner;
+        this.hitCount[i] = 0;
+    }
+
+    /**
+     * Moves every projectile one tick and records what it ran into. Enemies are reported in
+     * the order the projectile reaches them, then the wall that ends its flight, if any.
+     */
+    void sweep(float delta, ContactEventBuffer out) {
+        EnemySpatialHash grid = EnemySpatialHash.shared();
+        WallIndex walls = WallRegistry.getIndex();
+        float enemyReach = grid.getMaxRadius();
+
+        for (int i = 0; i < count; i++) {
+            lifetime[i] -= delta;
+            if (lifetime[i] <= 0f) continue;
+
+            float ax = x[i], ay = y[i];
+            float dx = vx[i] * delta, dy = vy[i] * delta;
+            float bx = ax + dx, by = ay + dy;
+
+            float wallT = walls.firstHit(ax, ay, bx, by);
+            float limit = wallT >= 0f ? wallT : 1f;
+
+            int found = grid.queryCapsule(ax, ay, bx, by, radius[i] + enemyReach, candidates);
+            int hitsFound = 0;
+            for (int c = 0; c < found; c++) {
+                AbstractEnemy e = candidates[c];
+                float t = entryTime(ax, ay, dx, dy, e.getBody().getPosition(), radius[i] + e.getBodyRadius());
+                if (t < 0f || t > limit) continue;
+                // Insertion by distance along the sweep
+                int slot = hitsFound++;
+                while (slot > 0 && candidateT[slot - 1] > t) {
+                    candidateT[slot] = candidateT[slot - 1];
+                    candidates[slot] = candidates[slot - 1];
+                    slot--;
+                }
+                candidateT[slot] = t;
+                candidates[slot] = e;
+            }
+            for (int h = 0; h < hitsFound; h++) {
+                float t = candidateT[h];
+                out.add(kind[i], i, ContactTag.ENEMY, candidates[h], ax + dx * t, ay + dy * t, vx[i], vy[i]);
+                candidates[h] = null;
+            }
+            if (wallT >= 0f) {
+                out.add(kind[i], i, ContactTag.WALL, null, ax + dx * wallT, ay + dy * wallT, vx[i], vy[i]);
+            }
+
+            prevX[i] = ax;
+            prevY[i] = ay;
+            x[i] = bx;
+            y[i] = by;
+            traveled[i] += (float) Math.sqrt(dx * dx + dy * dy);
+        }
+    }
+
+    // When the segment a + t*d, t in [0, 1], first comes within r of centre c: 0 if it starts
+    // inside, -1 if never
+    private static float entryTime(float ax, float ay, float dx, float dy,
+                                   Vector2 c, float r) {
+        float fx = ax - c.x;
+        float fy = ay - c.y;
+        float cc = fx * fx + fy * fy - r * r;
+        if (cc <= 0f) return 0f;
+        float aa = dx * dx + dy * dy;
+        if (aa < 1e-12f) return -1f;
+        float bb = fx * dx + fy * dy;
+        float disc = bb * bb - aa * cc;
+        if (disc < 0f || bb > 0f) return -1f;
+        float t = (-bb - (float) Math.sqrt(disc)) / aa;
+        return t <= 1f ? t : -1f;
+    }
+
+    /** Removes projectiles that expired or were used up this tick. */
+    void compact() {
+        for (int i = count - 1; i >= 0; i--) {
+            if (lifetime[i] > 0f) continue;
+            int last = --count;
+            if (i != last) {
+                kind[i] = kind[last];
+                x[i] = x[last];
+                y[i] = y[last];
+                prevX[i] = prevX[last];
+                prevY[i] = prevY[last];
+                vx[i] = vx[last];
+                vy[i] = vy[last];
+                lifetime[i] = lifetime[last];
+                radius[i] = radius[last];
+                knockback[i] = knockback[last];
+                traveled[i] = traveled[last];
+                pierce[i] = pierce[last];
+                owner[i] = owner[last];
+                hitCount[i] = hitCount[last];
+                System.arraycopy(hits, last * MAX_PIERCE_HITS, hits, i * MAX_PIERCE_HITS, hitCount[last]);
+            }
+            owner[last] = null;
+            Arrays.fill(hits, last * MAX_PIERCE_HITS, (last + 1) * MAX_PIERCE_HITS, null);
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(owner, 0, count, null);
+        Arrays.fill(hits, 0, count * MAX_PIERCE_HITS, null);
+        count = 0;
+    }
+
+    void kill(int i) {
+        lifetime[i] = 0f;
+    }
+
+    boolean hasHit(int i, AbstractEnemy enemy) {
+        int base = i * MAX_PIERCE_HITS;
+        for (int h = 0; h < hitCount[i]; h++) {
+            if (hits[base + h] == enemy) return true;
+        }
+        return false;
+    }
+
+    /** @return false when the projectile can't remember another enemy */
+    boolean markHit(int i, AbstractEnemy enemy) {
+        if (hitCount[i] == MAX_PIERCE_HITS) return false;
+        hits[i * MAX_PIERCE_HITS + hitCount[i]++] = enemy;
+        return true;
+    }
+
+    public int size() { return count; }
+    public int kindAt(int i) { return kind[i]; }
+    public float xAt(int i) { return x[i]; }
+    public float yAt(int i) { return y[i]; }
+    /** Position alpha of the way through the last tick (0 = before it, 1 = after), for drawing. */
+    public float xAt(int i, float alpha) { return prevX[i] + (x[i] - prevX[i]) * alpha; }
+    public float yAt(int i, float alpha) { return prevY[i] + (y[i] - prevY[i]) * alpha; }
+    public float velocityXAt(int i) { return vx[i]; }
+    public float velocityYAt(int i) { return vy[i]; }
+    public float traveledAt(int i) { return traveled[i]; }
+    boolean piercesAt(int i) { return pierce[i]; }
+    float knockbackAt(int i) { return knockback[i]; }
+    AbstractPlayer ownerAt(int i) { return owner[i]; }
+
+    private void grow() {
+        int n = count;
+        int[] oKind = kind, oHitCount = hitCount;
+        float[] oX = x, oY = y, oPrevX = prevX, oPrevY = prevY, oVx = vx, oVy = vy, oLife = lifetime, oRadius = radius, oKnock = knockback, oTraveled = traveled;
+        boolean[] oPierce = pierce;
+        AbstractPlayer[] oOwner = owner;
+        AbstractEnemy[] oHits = hits;
+        allocate(n * 2);
+        System.arraycopy(oKind, 0, kind, 0, n);
+        System.arraycopy(oHitCount, 0, hitCount, 0, n);
+        System.arraycopy(oX, 0, x, 0, n);
+        System.arraycopy(oY, 0, y, 0, n);
+        System.arraycopy(oPrevX, 0, prevX, 0, n);
+        System.arraycopy(oPrevY, 0, prevY, 0, n);
+        System.arraycopy(oVx, 0, vx, 0, n);
+        System.arraycopy(oVy, 0, vy, 0, n);
+        System.arraycopy(oLife, 0, lifetime, 0, n);
+        System.arraycopy(oRadius, 0, radius, 0, n);
+        System.arraycopy(oKnock, 0, knockback, 0, n);
+        System.arraycopy(oTraveled, 0, traveled, 0, n);
+        System.arraycopy(oPierce, 0, pierce, 0, n);
+        System.arraycopy(oOwner, 0, owner, 0, n);
+        System.arraycopy(oHits, 0, hits, 0, n * MAX_PIERCE_HITS);
+    }
+
+    private void allocate(int capacity) {
+        kind = new int[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        lifetime = new float[capacity];
+        radius = new float[capacity];
+        knockback = new float[capacity];
+        traveled = new float[capacity];
+        pierce = new boolean[capacity];
+        owner = new AbstractPlayer[capacity];
+        hits = new AbstractEnemy[capacity * MAX_PIERCE_HITS];
+        hitCount = new int[capacity];
+    }
+}
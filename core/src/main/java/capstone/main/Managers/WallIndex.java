@@ -0,0 +1,220 @@
+package capstone.main.Managers;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.List;
+
+/**
+ * Uniform grid over the wallLayer rectangles, built once per map load. Each cell lists the
+ * walls overlapping it (flattened into one id array), so a segment cast only tests walls in
+ * the cells the segment actually crosses instead of every wall on the map.
+ *
+ * Immutable after construction; queries keep no scratch state and are safe from any thread.
+ */
+public final class WallIndex {
+    static final WallIndex EMPTY = new WallIndex(new Rectangle[0]);
+
+    private static final float CELL_SIZE = 1f; // one map tile
+
+    private final float[] minX, minY, maxX, maxY; // wall bounds by id
+    private final float originX, originY;
+    private final int cols, rows;
+    private final int[] cellStart; // walls of cell c are ids[cellStart[c] .. cellStart[c + 1])
+    private final int[] ids;
+
+    WallIndex(Rectangle[] walls) {
+        int n = walls.length;
+        minX = new float[n];
+        minY = new float[n];
+        maxX = new float[n];
+        maxY = new float[n];
+        float loX = Float.POSITIVE_INFINITY, loY = Float.POSITIVE_INFINITY;
+        float hiX = Float.NEGATIVE_INFINITY, hiY = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            Rectangle r = walls[i];
+            minX[i] = r.x;
+            minY[i] = r.y;
+            maxX[i] = r.x + r.width;
+            maxY[i] = r.y + r.height;
+            loX = Math.min(loX, minX[i]);
+            loY = Math.min(loY, minY[i]);
+            hiX = Math.max(hiX, maxX[i]);
+            hiY = Math.max(hiY, maxY[i]);
+        }
+        if (n == 0) {
+            originX = originY = 0f;
+            cols = rows = 0;
+            cellStart = new int[1];
+            ids = new int[0];
+            return;
+        }
+        originX = (float) Math.floor(loX / CELL_SIZE) * CELL_SIZE;
+        originY = (float) Math.floor(loY / CELL_SIZE) * CELL_SIZE;
+        cols = Math.max(1, (int) Math.ceil((hiX - originX) / CELL_SIZE));
+        rows = Math.max(1, (int) Math.ceil((hiY - originY) / CELL_SIZE));
+
+        // Two passes: count walls per cell, then fill the flattened id array
+        cellStart = new int[cols * rows + 1];
+        for (int i = 0; i < n; i++) {
+            for (int cx = colOf(minX[i]), ex = colOf(maxX[i]); cx <= ex; cx++) {
+                for (int cy = rowOf(minY[i]), ey = rowOf(maxY[i]); cy <= ey; cy++) {
+                    cellStart[cx * rows + cy + 1]++;
+                }
+            }
+        }
+        for (int c = 0; c < cols * rows; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        ids = new int[cellStart[cols * rows]];
+        int[] fill = new int[cols * rows];
+        for (int i = 0; i < n; i++) {
+            for (int cx = colOf(minX[i]), ex = colOf(maxX[i]); cx <= ex; cx++) {
+                for (int cy = rowOf(minY[i]), ey = rowOf(maxY[i]); cy <= ey; cy++) {
+                    int c = cx * rows + cy;
+                    ids[cellStart[c] + fill[c]++] = i;
+                }
+            }
+        }
+    }
+
+    static WallIndex build(List<Rectangle> walls) {
+        if (walls == null || walls.isEmpty()) return EMPTY;
+        return new WallIndex(walls.toArray(new Rectangle[0]));
+    }
+
+    /** True when (x, y) lies inside or on the edge of any wall. */
+    public boolean isInsideWall(float x, float y) {
+        if (cols == 0) return false;
+        int cx = (int) Math.floor((x - originX) / CELL_SIZE);
+        int cy = (int) Math.floor((y - originY) / CELL_SIZE);
+        if (cx < 0 || cy < 0 || cx >= cols || cy >= rows) return false;
+        int c = cx * rows + cy;
+        for (int k = cellStart[c]; k < cellStart[c + 1]; k++) {
+            int i = ids[k];
+            if (x >= minX[i] && x <= maxX[i] && y >= minY[i] && y <= maxY[i]) return true;
+        }
+        return false;
+    }
+
+    /**
+     * True when the segment from (ax, ay) to (bx, by) touches any wall, including a segment
+     * that starts or ends inside one. Walks only the grid cells the segment crosses.
+     */
+    public boolean segmentHitsWall(float ax, float ay, float bx, float by) {
+        return firstHit(ax, ay, bx, by) >= 0f;
+    }
+
+    /**
+     * Fraction of the way from (ax, ay) to (bx, by) at which the segment first touches a wall:
+     * 0 when it starts inside one, -1 when it touches none.
+     */
+    public float firstHit(float ax, float ay, float bx, float by) {
+        if (cols == 0) return -1f;
+        float dx = bx - ax;
+        float dy = by - ay;
+
+        // Clip to the grid; nothing outside it can be a wall
+        float t0 = 0f, t1 = 1f;
+        if (dx != 0f) {
+            float u = (originX - ax) / dx;
+            float v = (originX + cols * CELL_SIZE - ax) / dx;
+            t0 = Math.max(t0, Math.min(u, v));
+            t1 = Math.min(t1, Math.max(u, v));
+        } else if (ax < originX || ax > originX + cols * CELL_SIZE) {
+            return -1f;
+        }
+        if (dy != 0f) {
+            float u = (originY - ay) / dy;
+            float v = (originY + rows * CELL_SIZE - ay) / dy;
+            t0 = Math.max(t0, Math.min(u, v));
+            t1 = Math.min(t1, Math.max(u, v));
+        } else if (ay < originY || ay > originY + rows * CELL_SIZE) {
+            return -1f;
+        }
+        if (t0 > t1) return -1f;
+
+        // Grid traversal (Amanatides & Woo) from the clipped entry point to the exit point
+        float sx = ax + dx * t0 - originX;
+        float sy = ay + dy * t0 - originY;
+        int cx = clampCol((int) Math.floor(sx / CELL_SIZE));
+        int cy = clampRow((int) Math.floor(sy / CELL_SIZE));
+        int ex = clampCol((int) Math.floor((ax + dx * t1 - originX) / CELL_SIZE));
+        int ey = clampRow((int) Math.floor((ay + dy * t1 - originY) / CELL_SIZE));
+        int stepX = dx > 0f ? 1 : (dx < 0f ? -1 : 0);
+        int stepY = dy > 0f ? 1 : (dy < 0f ? -1 : 0);
+        float tDeltaX = stepX != 0 ? CELL_SIZE / Math.abs(dx) : Float.POSITIVE_INFINITY;
+        float tDeltaY = stepY != 0 ? CELL_SIZE / Math.abs(dy) : Float.POSITIVE_INFINITY;
+        float tMaxX = stepX > 0 ? t0 + ((cx + 1) * CELL_SIZE - sx) / dx
+            : stepX < 0 ? t0 + (cx * CELL_SIZE - sx) / dx : Float.POSITIVE_INFINITY;
+        float tMaxY = stepY > 0 ? t0 + ((cy + 1) * CELL_SIZE - sy) / dy
+            : stepY < 0 ? t0 + (cy * CELL_SIZE - sy) / dy : Float.POSITIVE_INFINITY;
+
+        // A wall is listed in every cell it overlaps, so a hit in a later cell can't come before
+        // the segment leaves this one: stop at the first cell whose best hit is inside it
+        float best = Float.POSITIVE_INFINITY;
+        int guard = cols + rows + 2;
+        while (true) {
+            int c = cx * rows + cy;
+            for (int k = cellStart[c]; k < cellStart[c + 1]; k++) {
+                int i = ids[k];
+                float t = entryTime(ax, ay, dx, dy, minX[i], minY[i], maxX[i], maxY[i]);
+                if (t >= 0f && t < best) best = t;
+            }
+            if (best <= Math.min(tMaxX, tMaxY)) break;
+            if ((cx == ex && cy == ey) || guard-- == 0) break;
+            if (tMaxX < tMaxY) {
+                cx += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                cy += stepY;
+                tMaxY += tDeltaY;
+            }
+            if (cx < 0 || cy < 0 || cx >= cols || cy >= rows) break;
+        }
+        return best == Float.POSITIVE_INFINITY ? -1f : best;
+    }
+
+    public int getWallCount() {
+        return minX.length;
+    }
+
+    // Liang-Barsky slab test: where does the segment a + t*d, t in [0, 1], enter the closed
+    // box? 0 if it starts inside, -1 if it misses
+    private static float entryTime(float ax, float ay, float dx, float dy,
+                                   float loX, float loY, float hiX, float hiY) {
+        float t0 = 0f, t1 = 1f;
+        if (dx == 0f) {
+            if (ax < loX || ax > hiX) return -1f;
+        } else {
+            float u = (loX - ax) / dx;
+            float v = (hiX - ax) / dx;
+            t0 = Math.max(t0, Math.min(u, v));
+            t1 = Math.min(t1, Math.max(u, v));
+        }
+        if (dy == 0f) {
+            if (ay < loY || ay > hiY) return -1f;
+        } else {
+            float u = (loY - ay) / dy;
+            float v = (hiY - ay) / dy;
+            t0 = Math.max(t0, Math.min(u, v));
+            t1 = Math.min(t1, Math.max(u, v));
+        }
+        return t0 <= t1 ? t0 : -1f;
+    }
+
+    private int colOf(float x) {
+        return clampCol((int) Math.floor((x - originX) / CELL_SIZE));
+    }
+
+    private int rowOf(float y) {
+        return clampRow((int) Math.floor((y - originY) / CELL_SIZE));
+    }
+
+    private int clampCol(int cx) {
+        return Math.max(0, Math.min(cols - 1, cx));
+    }
+
+    private int clampRow(int cy) {
+        return Math.max(0, Math.min(rows - 1, cy));
+    }
+}
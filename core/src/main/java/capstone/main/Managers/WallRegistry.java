@@ -1,23 +1,35 @@
 package capstone.main.Managers;
 
 import com.badlogic.gdx.math.Rectangle;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 public final class WallRegistry {
-    private static final List<Rectangle> WALLS = new CopyOnWriteArrayList<>();
+    // Replaced wholesale on map load; readers never see a half-built set
+    private static volatile List<Rectangle> walls = Collections.emptyList();
+    private static volatile WallIndex index = WallIndex.EMPTY;
 
     private WallRegistry() {}
 
     public static void setWalls(List<Rectangle> rects) {
-        WALLS.clear();
-        if (rects != null) {
-            WALLS.addAll(rects);
-        }
+        List<Rectangle> copy = rects == null ? Collections.<Rectangle>emptyList()
+            : Collections.unmodifiableList(new ArrayList<>(rects));
+        index = WallIndex.build(copy);
+        walls = copy;
     }
 
     public static List<Rectangle> getWalls() {
-        return Collections.unmodifiableList(WALLS);
+        return walls;
     }
-}
\ No newline at end of file
+
+    /** Grid index over the current walls, for line-of-sight and point tests. */
+    public static WallIndex getIndex() {
+        return index;
+    }
+
+    /** True when a wall blocks the straight line between the two points. */
+    public static boolean isBlocked(float ax, float ay, float bx, float by) {
+        return index.segmentHitsWall(ax, ay, bx, by);
+    }
+}
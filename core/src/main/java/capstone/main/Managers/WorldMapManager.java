@@ -1,8 +1,13 @@
 package capstone.main.Managers;
 
+import capstone.main.Pathfinding.ArrayAStar;
+import capstone.main.Pathfinding.HierarchicalPathfinder;
+import capstone.main.Pathfinding.JumpPointSearch;
+import capstone.main.Pathfinding.PathEngine;
 import com.badlogic.gdx.Gdx;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Manages world maps, transitions, and spawn points
@@ -93,6 +98,33 @@ public class WorldMapManager {
         ENEMY_COUNTS.put(WorldMap.WORLD_3_BOSS, 25); // Boss arena gets more adds
     }
 
+    // Pathfinding engine per world - hierarchical search (with JPS inside clusters) on the
+    // large overworlds, plain A* in the small boss arenas where searches are short anyway
+    private static final Supplier<PathEngine> ASTAR_ENGINE = ArrayAStar::new;
+    private static final Supplier<PathEngine> HPA_JPS_ENGINE = () -> new HierarchicalPathfinder(new JumpPointSearch());
+    private static final Map<WorldMap, Supplier<PathEngine>> PATH_ENGINES = new HashMap<>();
+    static {
+        PATH_ENGINES.put(WorldMap.WORLD_1, HPA_JPS_ENGINE);
+        PATH_ENGINES.put(WorldMap.WORLD_1_BOSS, ASTAR_ENGINE);
+        PATH_ENGINES.put(WorldMap.WORLD_2, HPA_JPS_ENGINE);
+        PATH_ENGINES.put(WorldMap.WORLD_2_BOSS, ASTAR_ENGINE);
+        PATH_ENGINES.put(WorldMap.WORLD_3, HPA_JPS_ENGINE);
+        PATH_ENGINES.put(WorldMap.WORLD_3_BOSS, ASTAR_ENGINE);
+    }
+
+    // Box2D velocity/position iterations per world - the overworlds carry the most bodies and
+    // only need enemies and player to stay out of walls; the boss arenas keep the finer solve
+    private static final int[] DEFAULT_SOLVER_ITERATIONS = {10, 5};
+    private static final Map<WorldMap, int[]> SOLVER_ITERATIONS = new HashMap<>();
+    static {
+        SOLVER_ITERATIONS.put(WorldMap.WORLD_1, new int[]{8, 3});
+        SOLVER_ITERATIONS.put(WorldMap.WORLD_1_BOSS, new int[]{10, 5});
+        SOLVER_ITERATIONS.put(WorldMap.WORLD_2, new int[]{8, 3});
+        SOLVER_ITERATIONS.put(WorldMap.WORLD_2_BOSS, new int[]{10, 5});
+        SOLVER_ITERATIONS.put(WorldMap.WORLD_3, new int[]{8, 3});
+        SOLVER_ITERATIONS.put(WorldMap.WORLD_3_BOSS, new int[]{10, 5});
+    }
+
     private WorldMap currentWorld;
 
     public WorldMapManager() {
@@ -125,6 +157,22 @@ public class WorldMapManager {
         return ENEMY_COUNTS.getOrDefault(world, 10);
     }
 
+    /**
+     * Get the pathfinding engine factory for a world (engines are not thread-safe,
+     * so each path worker builds its own)
+     */
+    public Supplier<PathEngine> getPathEngineFactory(WorldMap world) {
+        return PATH_ENGINES.getOrDefault(world, ASTAR_ENGINE);
+    }
+
+    /**
+     * Apply the world's Box2D solver iteration counts to the physics step
+     */
+    public void applySolverIterations(WorldMap world, PhysicsManager physics) {
+        int[] iterations = SOLVER_ITERATIONS.getOrDefault(world, DEFAULT_SOLVER_ITERATIONS);
+        physics.setSolverIterations(iterations[0], iterations[1]);
+    }
+
     /**
      * Get world by file path
      */
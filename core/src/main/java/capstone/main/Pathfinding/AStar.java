@@ -3,6 +3,13 @@ package capstone.main.Pathfinding;
 import java.util.*;
 
 public class AStar {
+    // Legacy engine exposed through the PathEngine interface (kept for comparison)
+    public static final PathEngine ENGINE = (navMesh, start, target, out) -> {
+        out.clear();
+        out.addAll(findPath(navMesh, start, target));
+        return !out.isEmpty();
+    };
+
     // Reusable collections to prevent garbage creation
     private static final Map<NavNode, PathNode> REUSABLE_NODES = new HashMap<>();
     private static final PriorityQueue<PathNode> REUSABLE_OPEN_SET = new PriorityQueue<>(Comparator.comparingDouble(PathNode::fCost));
@@ -14,7 +21,7 @@ public class AStar {
     private static final int MAX_POOL_SIZE = 1000;
 
     public static List<NavNode> findPath(NavMesh navMesh, NavNode start, NavNode target) {
-        if (start == null || target == null || !start.walkable || !target.walkable) {
+        if (navMesh == null || start == null || target == null || !navMesh.isReachable(start, target)) {
             return Collections.emptyList();
         }
 
@@ -28,7 +35,7 @@ public class AStar {
         PathNode startNode = getPooledPathNode();
         startNode.reset(start);
         startNode.gCost = 0;
-        startNode.hCost = heuristic(start, target);
+        startNode.hCost = heuristic(navMesh, start, target);
         
         REUSABLE_NODES.put(start, startNode);
         REUSABLE_OPEN_SET.add(startNode);
@@ -48,7 +55,8 @@ public class AStar {
             for (NavNode neighbor : current.navNode.neighbors) {
                 if (REUSABLE_CLOSED_SET.contains(neighbor)) continue;
 
-                float tentativeG = current.gCost + distance(current.navNode, neighbor);
+                float tentativeG = current.gCost + distance(current.navNode, neighbor)
+                    + navMesh.getTileCost(navMesh.indexOf(neighbor.x, neighbor.y)); // hazard cost, 0 on plain ground
 
                 PathNode neighborNode = REUSABLE_NODES.get(neighbor);
                 if (neighborNode == null) {
@@ -58,13 +66,13 @@ public class AStar {
                 }
 
                 if (tentativeG < neighborNode.gCost || neighborNode.gCost == Float.MAX_VALUE) {
+                    // PriorityQueue has no decrease-key: take the node out before its cost changes, then
+                    // re-add it. With hazard costs a cheaper route to a queued node is common.
+                    REUSABLE_OPEN_SET.remove(neighborNode);
                     neighborNode.gCost = tentativeG;
-                    neighborNode.hCost = heuristic(neighbor, target);
+                    neighborNode.hCost = heuristic(navMesh, neighbor, target);
                     neighborNode.parent = current;
-
-                    if (!REUSABLE_OPEN_SET.contains(neighborNode)) {
-                        REUSABLE_OPEN_SET.add(neighborNode);
-                    }
+                    REUSABLE_OPEN_SET.add(neighborNode);
                 }
             }
         }
@@ -103,11 +111,12 @@ public class AStar {
         return new ArrayList<>(REUSABLE_PATH);
     }
 
-    private static float heuristic(NavNode a, NavNode b) {
-        // Diagonal distance
+    private static float heuristic(NavMesh navMesh, NavNode a, NavNode b) {
+        // Diagonal distance, tightened by the landmark bound around walls
         float dx = Math.abs(a.x - b.x);
         float dy = Math.abs(a.y - b.y);
-        return dx + dy + (float)(Math.sqrt(2) - 2) * Math.min(dx, dy);
+        float octile = dx + dy + (float)(Math.sqrt(2) - 2) * Math.min(dx, dy);
+        return Math.max(octile, navMesh.getLandmarks().lowerBound(navMesh.indexOf(a.x, a.y), navMesh.indexOf(b.x, b.y)));
     }
 
     private static float distance(NavNode a, NavNode b) {
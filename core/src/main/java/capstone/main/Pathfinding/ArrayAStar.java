@@ -0,0 +1,26 @@
+package capstone.main.Pathfinding;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A* over flat grid indices (x * height + y).
+ * g costs, parents and visit stamps live in primitive arrays sized to the NavMesh and the
+ * open set is an indexed binary heap with decrease-key, so once the arrays are warmed up a
+ * query allocates nothing. One instance is not thread-safe; use one per searching thread.
+ */
+public class ArrayAStar extends GridSearch {
+
+    @Override
+    protected void expand(int current) {
+        expandNeighbors(current);
+    }
+
+    @Override
+    protected void reconstructPath(int endIndex, List<NavNode> out) {
+        for (int i = endIndex; i >= 0; i = parent[i]) {
+            out.add(navMesh.getNodeByIndex(i));
+        }
+        Collections.reverse(out);
+    }
+}
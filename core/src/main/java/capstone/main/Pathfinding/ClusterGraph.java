@@ -0,0 +1,274 @@
+package capstone.main.Pathfinding;
+
+import com.badlogic.gdx.Gdx;
+
+import java.util.Arrays;
+
+/**
+ * Abstract graph for hierarchical pathfinding (HPA*).
+ * The NavMesh is cut into CLUSTER_SIZE x CLUSTER_SIZE clusters. Where two neighbouring
+ * clusters share walkable border tiles we place entrance nodes, connected across the
+ * border (inter edges) and to every other entrance of the same cluster (intra edges,
+ * costed by a Dijkstra flood restricted to the cluster). Built once per NavMesh.
+ */
+public class ClusterGraph {
+    public static final int CLUSTER_SIZE = 16;
+    // Border runs longer than this get an entrance at each end instead of one in the middle
+    private static final int MAX_SINGLE_ENTRANCE_RUN = 5;
+
+    private final NavMesh navMesh;
+    private final int clustersX, clustersY;
+
+    private final int[] tileToNode; // tile index -> abstract node id, -1 if not an entrance
+    private int nodeCount = 0;
+    private int[] nodeTile = new int[64];
+
+    // Adjacency in CSR form (built from the temporary edge lists below)
+    private int[] edgeStart;
+    private int[] edgeTarget;
+    private float[] edgeCost;
+
+    // Abstract nodes of each cluster in CSR form
+    private int[] clusterNodeStart;
+    private int[] clusterNodes;
+
+    private int tmpEdgeCount = 0;
+    private int[] tmpEdgeFrom = new int[128];
+    private int[] tmpEdgeTo = new int[128];
+    private float[] tmpEdgeCost = new float[128];
+
+    public ClusterGraph(NavMesh navMesh) {
+        this.navMesh = navMesh;
+        this.clustersX = (navMesh.getWidth() + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+        this.clustersY = (navMesh.getHeight() + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+        this.tileToNode = new int[navMesh.getNodeCount()];
+        Arrays.fill(tileToNode, -1);
+
+        buildEntrances();
+        buildClusterIndex();
+        buildIntraEdges();
+        buildAdjacency();
+
+        Gdx.app.log("ClusterGraph", clustersX + "x" + clustersY + " clusters, " + nodeCount
+            + " entrance nodes, " + edgeTarget.length + " edges");
+    }
+
+    /** Rebuilds a graph from the arrays of one built for the same mesh (see NavGridCache). */
+    ClusterGraph(NavMesh navMesh, int[] nodeTile, int[] edgeStart, int[] edgeTarget, float[] edgeCost) {
+        this.navMesh = navMesh;
+        this.clustersX = (navMesh.getWidth() + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+        this.clustersY = (navMesh.getHeight() + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+        this.tileToNode = new int[navMesh.getNodeCount()];
+        Arrays.fill(tileToNode, -1);
+
+        this.nodeTile = nodeTile;
+        this.nodeCount = nodeTile.length;
+        for (int id = 0; id < nodeCount; id++) {
+            tileToNode[nodeTile[id]] = id;
+        }
+        this.edgeStart = edgeStart;
+        this.edgeTarget = edgeTarget;
+        this.edgeCost = edgeCost;
+        tmpEdgeFrom = null;
+        tmpEdgeTo = null;
+        tmpEdgeCost = null;
+        buildClusterIndex();
+    }
+
+    // --- Build ---
+
+    private void buildEntrances() {
+        int width = navMesh.getWidth();
+        int height = navMesh.getHeight();
+
+        // Vertical borders between (cx, cy) and (cx + 1, cy)
+        for (int cx = 0; cx < clustersX - 1; cx++) {
+            int x0 = (cx + 1) * CLUSTER_SIZE - 1;
+            for (int cy = 0; cy < clustersY; cy++) {
+                int from = cy * CLUSTER_SIZE;
+                int to = Math.min(height, from + CLUSTER_SIZE);
+                scanBorder(x0, from, to, true);
+            }
+        }
+
+        // Horizontal borders between (cx, cy) and (cx, cy + 1)
+        for (int cy = 0; cy < clustersY - 1; cy++) {
+            int y0 = (cy + 1) * CLUSTER_SIZE - 1;
+            for (int cx = 0; cx < clustersX; cx++) {
+                int from = cx * CLUSTER_SIZE;
+                int to = Math.min(width, from + CLUSTER_SIZE);
+                scanBorder(y0, from, to, false);
+            }
+        }
+    }
+
+    /**
+     * Scans one border segment. For vertical borders 'line' is the last column of the left
+     * cluster and i walks rows; for horizontal borders 'line' is the top row of the lower
+     * cluster and i walks columns.
+     */
+    private void scanBorder(int line, int from, int to, boolean vertical) {
+        int runStart = -1;
+        for (int i = from; i <= to; i++) {
+            boolean open = i < to && crossable(line, i, i, vertical);
+            if (open && runStart < 0) {
+                runStart = i;
+            } else if (!open && runStart >= 0) {
+                int runEnd = i - 1;
+                if (runEnd - runStart + 1 <= MAX_SINGLE_ENTRANCE_RUN) {
+                    addEntrance(line, (runStart + runEnd) / 2, (runStart + runEnd) / 2, vertical, 1f);
+                } else {
+                    addEntrance(line, runStart, runStart, vertical, 1f);
+                    addEntrance(line, runEnd, runEnd, vertical, 1f);
+                }
+                runStart = -1;
+            }
+        }
+
+        // Diagonal-only crossings (no straight crossing on either row/column involved)
+        for (int i = from; i < to - 1; i++) {
+            if (crossable(line, i, i, vertical) || crossable(line, i + 1, i + 1, vertical)) continue;
+            if (crossable(line, i, i + 1, vertical)) addEntrance(line, i, i + 1, vertical, NavMesh.DIAGONAL_COST);
+            if (crossable(line, i + 1, i, vertical)) addEntrance(line, i + 1, i, vertical, NavMesh.DIAGONAL_COST);
+        }
+    }
+
+    private boolean crossable(int line, int near, int far, boolean vertical) {
+        return vertical
+            ? navMesh.isWalkable(line, near) && navMesh.isWalkable(line + 1, far)
+            : navMesh.isWalkable(near, line) && navMesh.isWalkable(far, line + 1);
+    }
+
+    private void addEntrance(int line, int near, int far, boolean vertical, float cost) {
+        int a = vertical ? getOrCreateNode(line, near) : getOrCreateNode(near, line);
+        int b = vertical ? getOrCreateNode(line + 1, far) : getOrCreateNode(far, line + 1);
+        addEdge(a, b, cost);
+        addEdge(b, a, cost);
+    }
+
+    private int getOrCreateNode(int x, int y) {
+        int tile = navMesh.indexOf(x, y);
+        int id = tileToNode[tile];
+        if (id >= 0) return id;
+        if (nodeCount == nodeTile.length) {
+            nodeTile = Arrays.copyOf(nodeTile, nodeCount * 2);
+        }
+        id = nodeCount++;
+        nodeTile[id] = tile;
+        tileToNode[tile] = id;
+        return id;
+    }
+
+    private void addEdge(int from, int to, float cost) {
+        if (tmpEdgeCount == tmpEdgeFrom.length) {
+            int size = tmpEdgeCount * 2;
+            tmpEdgeFrom = Arrays.copyOf(tmpEdgeFrom, size);
+            tmpEdgeTo = Arrays.copyOf(tmpEdgeTo, size);
+            tmpEdgeCost = Arrays.copyOf(tmpEdgeCost, size);
+        }
+        tmpEdgeFrom[tmpEdgeCount] = from;
+        tmpEdgeTo[tmpEdgeCount] = to;
+        tmpEdgeCost[tmpEdgeCount] = cost;
+        tmpEdgeCount++;
+    }
+
+    private void buildClusterIndex() {
+        int clusterCount = clustersX * clustersY;
+        clusterNodeStart = new int[clusterCount + 1];
+        for (int id = 0; id < nodeCount; id++) {
+            clusterNodeStart[clusterOfTile(nodeTile[id]) + 1]++;
+        }
+        for (int c = 0; c < clusterCount; c++) {
+            clusterNodeStart[c + 1] += clusterNodeStart[c];
+        }
+        clusterNodes = new int[nodeCount];
+        int[] fill = Arrays.copyOf(clusterNodeStart, clusterCount);
+        for (int id = 0; id < nodeCount; id++) {
+            clusterNodes[fill[clusterOfTile(nodeTile[id])]++] = id;
+        }
+    }
+
+    private void buildIntraEdges() {
+        ClusterSearch search = new ClusterSearch();
+        int clusterCount = clustersX * clustersY;
+        for (int c = 0; c < clusterCount; c++) {
+            int begin = clusterNodeStart[c];
+            int end = clusterNodeStart[c + 1];
+            if (end - begin < 2) continue;
+
+            int minX = clusterMinX(c), minY = clusterMinY(c);
+            int maxX = Math.min(navMesh.getWidth(), minX + CLUSTER_SIZE);
+            int maxY = Math.min(navMesh.getHeight(), minY + CLUSTER_SIZE);
+            for (int i = begin; i < end; i++) {
+                int from = clusterNodes[i];
+                search.run(navMesh, nodeTile[from], minX, minY, maxX, maxY);
+                for (int j = begin; j < end; j++) {
+                    if (i == j) continue;
+                    int to = clusterNodes[j];
+                    if (search.reached(nodeTile[to])) {
+                        addEdge(from, to, search.distanceTo(nodeTile[to]));
+                    }
+                }
+            }
+        }
+    }
+
+    private void buildAdjacency() {
+        edgeStart = new int[nodeCount + 1];
+        for (int e = 0; e < tmpEdgeCount; e++) {
+            edgeStart[tmpEdgeFrom[e] + 1]++;
+        }
+        for (int n = 0; n < nodeCount; n++) {
+            edgeStart[n + 1] += edgeStart[n];
+        }
+        edgeTarget = new int[tmpEdgeCount];
+        edgeCost = new float[tmpEdgeCount];
+        int[] fill = Arrays.copyOf(edgeStart, nodeCount);
+        for (int e = 0; e < tmpEdgeCount; e++) {
+            int slot = fill[tmpEdgeFrom[e]]++;
+            edgeTarget[slot] = tmpEdgeTo[e];
+            edgeCost[slot] = tmpEdgeCost[e];
+        }
+
+        // Release build-only buffers
+        tmpEdgeFrom = null;
+        tmpEdgeTo = null;
+        tmpEdgeCost = null;
+        nodeTile = Arrays.copyOf(nodeTile, nodeCount);
+    }
+
+    // --- Queries ---
+
+    public int getNodeCount() { return nodeCount; }
+    public int getClusterCount() { return clustersX * clustersY; }
+
+    public int clusterOfTile(int tile) {
+        int height = navMesh.getHeight();
+        return clusterOf(tile / height, tile % height);
+    }
+
+    public int clusterOf(int x, int y) {
+        return (x / CLUSTER_SIZE) * clustersY + (y / CLUSTER_SIZE);
+    }
+
+    int clusterMinX(int cluster) { return (cluster / clustersY) * CLUSTER_SIZE; }
+    int clusterMinY(int cluster) { return (cluster % clustersY) * CLUSTER_SIZE; }
+
+    int nodeTile(int node) { return nodeTile[node]; }
+    int nodeAtTile(int tile) { return tileToNode[tile]; }
+
+    int clusterNodesBegin(int cluster) { return clusterNodeStart[cluster]; }
+    int clusterNodesEnd(int cluster) { return clusterNodeStart[cluster + 1]; }
+    int clusterNode(int slot) { return clusterNodes[slot]; }
+
+    int edgesBegin(int node) { return edgeStart[node]; }
+    int edgesEnd(int node) { return edgeStart[node + 1]; }
+    int edgeTarget(int edge) { return edgeTarget[edge]; }
+    float edgeCost(int edge) { return edgeCost[edge]; }
+
+    // Raw arrays for NavGridCache
+    int[] getNodeTiles() { return nodeTile; }
+    int[] getEdgeStarts() { return edgeStart; }
+    int[] getEdgeTargets() { return edgeTarget; }
+    float[] getEdgeCosts() { return edgeCost; }
+}
@@ -0,0 +1,78 @@
+package capstone.main.Pathfinding;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Dijkstra flood from one tile, restricted to a rectangular block of the NavMesh.
+ * Used by ClusterGraph to cost the edges inside a cluster, and by the hierarchical
+ * search to connect start/goal tiles and to refine a path through one cluster.
+ */
+class ClusterSearch {
+    private float[] dist = new float[0];
+    private int[] parent = new int[0];
+    private int[] stamp = new int[0];
+    private IndexedMinHeap open = new IndexedMinHeap(0);
+    private int generation = 0;
+
+    private NavMesh navMesh;
+
+    /** Floods from sourceTile over tiles with minX <= x < maxX and minY <= y < maxY. */
+    void run(NavMesh navMesh, int sourceTile, int minX, int minY, int maxX, int maxY) {
+        this.navMesh = navMesh;
+        int count = navMesh.getNodeCount();
+        if (dist.length < count) {
+            dist = new float[count];
+            parent = new int[count];
+            stamp = new int[count];
+            open = new IndexedMinHeap(count);
+            generation = 0;
+        }
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+        open.clear();
+
+        dist[sourceTile] = 0f;
+        parent[sourceTile] = -1;
+        stamp[sourceTile] = generation;
+        open.push(sourceTile, 0f);
+
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            NavNode node = navMesh.getNodeByIndex(current);
+            float base = dist[current];
+            for (NavNode neighbor : node.neighbors) {
+                if (neighbor.x < minX || neighbor.x >= maxX || neighbor.y < minY || neighbor.y >= maxY) continue;
+                int n = navMesh.indexOf(neighbor.x, neighbor.y);
+                float cost = base + ((neighbor.x != node.x && neighbor.y != node.y) ? NavMesh.DIAGONAL_COST : 1f);
+                if (stamp[n] != generation || cost < dist[n]) {
+                    stamp[n] = generation;
+                    dist[n] = cost;
+                    parent[n] = current;
+                    open.push(n, cost);
+                }
+            }
+        }
+    }
+
+    boolean reached(int tile) {
+        return stamp[tile] == generation;
+    }
+
+    float distanceTo(int tile) {
+        return reached(tile) ? dist[tile] : Float.POSITIVE_INFINITY;
+    }
+
+    /** Appends the tiles from the source to the given tile (inclusive) onto out. */
+    void appendPath(int tile, List<NavNode> out) {
+        int from = out.size();
+        for (int i = tile; i >= 0; i = parent[i]) {
+            out.add(navMesh.getNodeByIndex(i));
+        }
+        Collections.reverse(out.subList(from, out.size()));
+    }
+}
@@ -1,58 +1,71 @@
 package capstone.main.Pathfinding;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
+/**
+ * Array-backed Dijkstra over flat grid indices (x * height + y), with the same moves and
+ * costs as the A* engines. A flood may start from several source tiles at once, in which
+ * case every tile gets its cost to the nearest source; Landmarks uses that to spread its
+ * landmarks out and to fill their distance tables.
+ */
 public class Dijkstra {
 
-    public static List<NavNode> findPath(NavMesh navMesh, NavNode start, NavNode goal) {
-        if (start == null || goal == null) return new ArrayList<>();
-
-        Map<NavNode, Float> dist = new HashMap<>();
-        Map<NavNode, NavNode> prev = new HashMap<>();
-        Set<NavNode> visited = new HashSet<>();
-        PriorityQueue<NavNode> pq = new PriorityQueue<>(Comparator.comparingDouble(dist::get));
+    /**
+     * Fills dist with the cost from the nearest source (+inf when unreached) and, when parent
+     * is non-null, the previous tile on that route (-1 at sources and unreached tiles).
+     * Stops early once stopAt is settled (pass -1 to flood everything reachable).
+     *
+     * @return the last tile settled: the one farthest from every source on a full flood, -1 if none
+     */
+    static int flood(NavMesh navMesh, int[] sources, int sourceCount, float[] dist, int[] parent,
+                     IndexedMinHeap open, int stopAt) {
+        Arrays.fill(dist, Float.POSITIVE_INFINITY);
+        if (parent != null) Arrays.fill(parent, -1);
+        open.clear();
 
-        // Initialize distances
-        for (NavNode node : navMesh.getNodes()) {
-            dist.put(node, Float.MAX_VALUE);
+        for (int i = 0; i < sourceCount; i++) {
+            dist[sources[i]] = 0f;
+            open.push(sources[i], 0f);
         }
-        dist.put(start, 0f);
-        pq.add(start);
-
-        while (!pq.isEmpty()) {
-            NavNode current = pq.poll();
-            if (visited.contains(current)) continue;
-            visited.add(current);
-
-            // Stop early if we reached goal
-            if (current == goal) break;
-
-            if (current.neighbors != null) {
-                for (NavNode neighbor : current.neighbors) {
-                    if (neighbor == null || !neighbor.walkable) continue;
-
-                    // Distance between nodes (Manhattan for grid)
-                    float alt = dist.get(current) + 1f; // all edges = 1
-                    if (alt < dist.get(neighbor)) {
-                        dist.put(neighbor, alt);
-                        prev.put(neighbor, current);
-                        pq.add(neighbor);
-                    }
-                }
+
+        int last = -1;
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            last = current;
+            if (current == stopAt) break;
+
+            NavNode node = navMesh.getNodeByIndex(current);
+            float base = dist[current];
+            for (NavNode neighbor : node.neighbors) {
+                int n = navMesh.indexOf(neighbor.x, neighbor.y);
+                float cost = base + ((neighbor.x != node.x && neighbor.y != node.y) ? NavMesh.DIAGONAL_COST : 1f);
+                if (cost >= dist[n]) continue;
+                dist[n] = cost;
+                if (parent != null) parent[n] = current;
+                open.push(n, cost);
             }
         }
+        return last;
+    }
 
-        // Reconstruct path
-        List<NavNode> path = new ArrayList<>();
-        NavNode step = goal;
-        while (step != null && prev.containsKey(step)) {
-            path.add(0, step);
-            step = prev.get(step);
-        }
+    public static List<NavNode> findPath(NavMesh navMesh, NavNode start, NavNode goal) {
+        if (navMesh == null || !navMesh.isReachable(start, goal)) return new ArrayList<>();
 
-        // Include start if path is valid
-        if (!path.isEmpty() && path.get(0) != start) path.add(0, start);
+        int count = navMesh.getNodeCount();
+        float[] dist = new float[count];
+        int[] parent = new int[count];
+        int goalIndex = navMesh.indexOf(goal.x, goal.y);
+        flood(navMesh, new int[] { navMesh.indexOf(start.x, start.y) }, 1, dist, parent,
+            new IndexedMinHeap(count), goalIndex);
 
+        List<NavNode> path = new ArrayList<>();
+        for (int i = goalIndex; i >= 0; i = parent[i]) {
+            path.add(navMesh.getNodeByIndex(i));
+        }
+        Collections.reverse(path);
         return path;
     }
 }
@@ -0,0 +1,58 @@
+package capstone.main.Pathfinding;
+
+/**
+ * Per-frame cap on node expansions shared by every path worker. The render thread
+ * refills it once per frame; a worker that finds it spent blocks until the next refill,
+ * so a burst of requests is spread over several frames. Engines that can't pause
+ * (hierarchical queries) settle what they actually used afterwards, and the overdraft
+ * comes out of the next frame's budget.
+ */
+class ExpansionBudget {
+    private int perFrame;
+    private int available;
+    private int usedThisFrame = 0;
+    private int usedLastFrame = 0;
+    private long waits = 0;
+
+    ExpansionBudget(int perFrame) {
+        this.perFrame = perFrame;
+        this.available = perFrame;
+    }
+
+    /** Starts a new frame: unused budget is dropped, overdraft is carried. */
+    synchronized void refill() {
+        usedLastFrame = usedThisFrame;
+        usedThisFrame = 0;
+        available = Math.min(available, 0) + perFrame;
+        notifyAll();
+    }
+
+    /** Takes up to max expansions, waiting for the next frame when the budget is spent. */
+    synchronized int acquire(int max) throws InterruptedException {
+        if (available <= 0) {
+            waits++;
+            do {
+                wait();
+            } while (available <= 0);
+        }
+        int granted = Math.min(max, available);
+        available -= granted;
+        return granted;
+    }
+
+    /** Returns the unused part of a grant, or charges the overdraft. */
+    synchronized void settle(int granted, int used) {
+        available += granted - used;
+        usedThisFrame += used;
+    }
+
+    synchronized void setPerFrame(int perFrame) {
+        this.perFrame = Math.max(1, perFrame);
+    }
+
+    synchronized int getPerFrame() { return perFrame; }
+    synchronized int getUsedLastFrame() { return usedLastFrame; }
+
+    /** Times a worker had to pause until the next frame. */
+    synchronized long getWaitCount() { return waits; }
+}
@@ -0,0 +1,109 @@
+package capstone.main.Pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Shared flow field toward a single goal tile (the player).
+ * One Dijkstra flood from the goal fills the integration field (cost-to-goal per tile),
+ * and the direction field stores the next tile to step onto. Every chaser then reads
+ * its next tile in O(1) instead of running its own A* search.
+ */
+public class FlowField {
+    // Enemies further than this (in path cost) fall back to per-enemy A*
+    public static final float DEFAULT_MAX_COST = 64f;
+
+    private final NavMesh navMesh;
+    private final float[] integration; // cost to goal, +inf when not reached
+    private final int[] nextIndex;     // direction field: next tile index toward goal, -1 when none
+    private final IndexedMinHeap open;
+    private float maxCost = DEFAULT_MAX_COST;
+
+    private int goalIndex = -1;
+    private int builtCostVersion = -1;
+    private int buildCount = 0;
+    private int lastReachedCount = 0;
+
+    FlowField(NavMesh navMesh) {
+        this.navMesh = navMesh;
+        int count = navMesh.getNodeCount();
+        this.integration = new float[count];
+        this.nextIndex = new int[count];
+        this.open = new IndexedMinHeap(count);
+        Arrays.fill(integration, Float.POSITIVE_INFINITY);
+        Arrays.fill(nextIndex, -1);
+    }
+
+    /**
+     * Points the field at the given goal tile. Rebuilds only when the goal tile changes,
+     * so the first chaser after the player moves pays for the flood and the rest reuse it.
+     *
+     * @return true if the field is valid for this goal
+     */
+    public boolean update(NavNode goal) {
+        if (goal == null || !goal.walkable) return false;
+        int index = navMesh.indexOf(goal.x, goal.y);
+        if (index != goalIndex || builtCostVersion != navMesh.getCostVersion()) {
+            build(index);
+        }
+        return true;
+    }
+
+    private void build(int goal) {
+        Arrays.fill(integration, Float.POSITIVE_INFINITY);
+        Arrays.fill(nextIndex, -1);
+        open.clear();
+
+        goalIndex = goal;
+        integration[goal] = 0f;
+        nextIndex[goal] = goal;
+        open.push(goal, 0f);
+
+        int reached = 0;
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            reached++;
+            NavNode node = navMesh.getNodeByIndex(current);
+            // Reversed search: neighbours step onto current, so they pay its hazard cost
+            float base = integration[current] + navMesh.getTileCost(current);
+
+            for (NavNode neighbor : node.neighbors) {
+                int n = navMesh.indexOf(neighbor.x, neighbor.y);
+                float cost = base + ((neighbor.x != node.x && neighbor.y != node.y) ? NavMesh.DIAGONAL_COST : 1f);
+                if (cost > maxCost || cost >= integration[n]) continue;
+                integration[n] = cost;
+                nextIndex[n] = current; // reversed search: parent is the step toward the goal
+                open.push(n, cost);
+            }
+        }
+
+        lastReachedCount = reached;
+        builtCostVersion = navMesh.getCostVersion();
+        buildCount++;
+    }
+
+    /**
+     * Next tile to move onto from the given tile, or null when the tile is not covered
+     * by the field (blocked, unreachable or beyond {@link #getMaxCost()}).
+     * Returns the goal itself once the chaser stands on it.
+     */
+    public NavNode getNextNode(NavNode from) {
+        if (from == null || goalIndex < 0) return null;
+        int next = nextIndex[navMesh.indexOf(from.x, from.y)];
+        return next < 0 ? null : navMesh.getNodeByIndex(next);
+    }
+
+    /** Path cost from the tile to the goal, or +inf when not covered. */
+    public float getCost(NavNode from) {
+        if (from == null) return Float.POSITIVE_INFINITY;
+        return integration[navMesh.indexOf(from.x, from.y)];
+    }
+
+    public void setMaxCost(float maxCost) {
+        this.maxCost = maxCost;
+        goalIndex = -1; // force rebuild with the new radius
+    }
+
+    public float getMaxCost() { return maxCost; }
+    public int getBuildCount() { return buildCount; }
+    public int getLastReachedCount() { return lastReachedCount; }
+}
@@ -0,0 +1,224 @@
+package capstone.main.Pathfinding;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Shared search state for the array-backed engines: g costs, parents and generation
+ * stamps indexed by x * height + y, plus the indexed open heap. Arrays grow to the
+ * largest NavMesh seen and are reused across queries, so searches don't allocate.
+ * Not thread-safe; each searching thread needs its own engine instance.
+ *
+ * Queries are resumable: begin() seeds the search, step() expands at most a given number
+ * of nodes and can be called again later to continue, and buildPath() writes the result.
+ * findPath() simply runs all three back to back.
+ */
+abstract class GridSearch implements PathEngine {
+
+    static final int SEARCHING = 0;
+    static final int FOUND = 1;
+    static final int FAILED = 2;
+
+    protected float[] gCost = new float[0];
+    protected int[] parent = new int[0];
+    protected int[] seenStamp = new int[0];   // == generation when gCost/parent are valid this query
+    protected int[] closedStamp = new int[0]; // == generation when the node has been expanded
+    protected IndexedMinHeap open = new IndexedMinHeap(0);
+    protected int generation = 0;
+
+    protected int lastExpandedCount = 0;
+
+    // Current query (kept between step() calls)
+    protected NavMesh navMesh;
+    protected int targetX, targetY;
+    private int targetIndex = -1;
+    private int status = FAILED;
+    protected int requiredClearance = 1;
+    protected Landmarks landmarks;
+    protected boolean weighted; // hazard costs present when the query began
+
+    @Override
+    public int getLastExpandedCount() {
+        return lastExpandedCount;
+    }
+
+    @Override
+    public boolean findPath(NavMesh navMesh, NavNode start, NavNode target, List<NavNode> out) {
+        return findPath(navMesh, start, target, 0f, out);
+    }
+
+    @Override
+    public boolean findPath(NavMesh navMesh, NavNode start, NavNode target, float agentRadius, List<NavNode> out) {
+        out.clear();
+        begin(navMesh, start, target, agentRadius);
+        boolean found = step(Integer.MAX_VALUE) == FOUND;
+        if (found) buildPath(out);
+        finish();
+        return found;
+    }
+
+    /** Starts a query; returns SEARCHING, or FAILED when start/target can't be searched. */
+    int begin(NavMesh navMesh, NavNode start, NavNode target, float agentRadius) {
+        lastExpandedCount = 0;
+        if (navMesh == null || start == null || target == null || !start.walkable || !target.walkable) {
+            status = FAILED;
+            return status;
+        }
+
+        requiredClearance = NavMesh.clearanceFor(agentRadius);
+        if (requiredClearance > 1) {
+            // Large agents start and end on the closest tiles they actually fit on
+            start = navMesh.nearestWithClearance(start, requiredClearance);
+            target = navMesh.nearestWithClearance(target, requiredClearance);
+            if (start == null || target == null) {
+                status = FAILED;
+                return status;
+            }
+        }
+        if (!navMesh.isReachable(start, target)) {
+            // Different regions: fail without flooding the start's whole region
+            status = FAILED;
+            return status;
+        }
+
+        this.navMesh = navMesh;
+        this.targetX = target.x;
+        this.targetY = target.y;
+        this.targetIndex = navMesh.indexOf(target.x, target.y);
+        this.landmarks = navMesh.getLandmarks();
+        this.weighted = navMesh.hasTileCosts();
+        beginQuery(navMesh);
+
+        int startIndex = navMesh.indexOf(start.x, start.y);
+        relax(startIndex, -1, 0f, heuristic(startIndex, start.x, start.y));
+        status = SEARCHING;
+        return status;
+    }
+
+    /** Expands up to maxExpansions nodes of the current query; returns the query status. */
+    int step(int maxExpansions) {
+        int stopAt = lastExpandedCount + maxExpansions;
+        if (stopAt < 0) stopAt = Integer.MAX_VALUE; // overflow for "no limit"
+
+        while (status == SEARCHING && lastExpandedCount < stopAt) {
+            if (open.isEmpty()) {
+                status = FAILED;
+                break;
+            }
+            int current = open.pop();
+            if (current == targetIndex) {
+                status = FOUND;
+                break;
+            }
+            close(current);
+            expand(current);
+        }
+        return status;
+    }
+
+    int getStatus() {
+        return status;
+    }
+
+    /** Writes the path of a FOUND query into out (cleared first). */
+    void buildPath(List<NavNode> out) {
+        out.clear();
+        if (status == FOUND) reconstructPath(targetIndex, out);
+    }
+
+    /** Drops the query's mesh reference. */
+    void finish() {
+        navMesh = null;
+        landmarks = null;
+        if (status == SEARCHING) status = FAILED;
+    }
+
+    /** Pushes the successors of an expanded node. */
+    protected abstract void expand(int current);
+
+    /** Appends the tiles from the start to endIndex (inclusive) onto out. */
+    protected abstract void reconstructPath(int endIndex, List<NavNode> out);
+
+    /** Sizes the arrays for the mesh and starts a fresh query generation. */
+    protected void beginQuery(NavMesh navMesh) {
+        int count = navMesh.getNodeCount();
+        if (gCost.length < count) {
+            gCost = new float[count];
+            parent = new int[count];
+            seenStamp = new int[count];
+            closedStamp = new int[count];
+            open = new IndexedMinHeap(count);
+            generation = 0;
+        }
+
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            // Stamps wrapped: wipe them once instead of clearing every query
+            Arrays.fill(seenStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            generation = 1;
+        }
+
+        open.clear();
+        lastExpandedCount = 0;
+    }
+
+    /** Plain A* expansion: relaxes every neighbour the agent fits on. */
+    protected void expandNeighbors(int current) {
+        NavNode node = navMesh.getNodeByIndex(current);
+        float base = gCost[current];
+        for (NavNode neighbor : node.neighbors) {
+            int n = navMesh.indexOf(neighbor.x, neighbor.y);
+            if (isClosed(n) || !fits(n)) continue;
+
+            float tentativeG = base + stepCost(node, neighbor, n);
+            if (!isSeen(n) || tentativeG < gCost[n]) {
+                relax(n, current, tentativeG, tentativeG + heuristic(n, neighbor.x, neighbor.y));
+            }
+        }
+    }
+
+    /** Cost of stepping onto a neighbouring tile, including its hazard cost. */
+    protected float stepCost(NavNode from, NavNode to, int toIndex) {
+        float cost = (from.x != to.x && from.y != to.y) ? NavMesh.DIAGONAL_COST : 1f;
+        return weighted ? cost + navMesh.getTileCost(toIndex) : cost;
+    }
+
+    /** True when the query's agent fits on the tile (always, for point agents). */
+    protected boolean fits(int index) {
+        return requiredClearance <= 1 || navMesh.getClearance(index) >= requiredClearance;
+    }
+
+    protected boolean isSeen(int index) {
+        return seenStamp[index] == generation;
+    }
+
+    protected boolean isClosed(int index) {
+        return closedStamp[index] == generation;
+    }
+
+    protected void close(int index) {
+        closedStamp[index] = generation;
+        lastExpandedCount++;
+    }
+
+    /** Records a better g cost for the index and queues it with the given f cost. */
+    protected void relax(int index, int parentIndex, float g, float f) {
+        seenStamp[index] = generation;
+        gCost[index] = g;
+        parent[index] = parentIndex;
+        open.push(index, f); // insert or decrease-key
+    }
+
+    /** Estimated cost from the tile to the target: octile distance or the landmark bound, whichever is larger. */
+    protected float heuristic(int index, int x, int y) {
+        float h = octile(x, y, targetX, targetY);
+        return landmarks != null ? Math.max(h, landmarks.lowerBound(index, targetIndex)) : h;
+    }
+
+    static float octile(int ax, int ay, int bx, int by) {
+        float dx = Math.abs(ax - bx);
+        float dy = Math.abs(ay - by);
+        return dx + dy + (NavMesh.DIAGONAL_COST - 2f) * Math.min(dx, dy);
+    }
+}
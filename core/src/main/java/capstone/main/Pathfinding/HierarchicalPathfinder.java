@@ -0,0 +1,207 @@
+package capstone.main.Pathfinding;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hierarchical A* (HPA*) over the NavMesh ClusterGraph.
+ * Short queries (same or nearby cluster) go straight to the low-level engine. Long queries
+ * search the abstract entrance graph and are refined lazily: the returned path only covers
+ * the walk to the exit of the current cluster plus the step into the next one. The caller
+ * asks again once it has walked that prefix, so query cost depends on the number of
+ * clusters crossed rather than on raw map area.
+ */
+public class HierarchicalPathfinder implements PathEngine {
+    // Queries shorter than this (octile tiles) aren't worth the abstract search
+    private static final float SHORT_QUERY_DISTANCE = ClusterGraph.CLUSTER_SIZE * 1.5f;
+
+    private final PathEngine lowLevel;
+    private final ClusterSearch startSearch = new ClusterSearch();
+    private final ClusterSearch goalSearch = new ClusterSearch();
+
+    // Abstract search state; the extra last slot is the virtual goal node
+    private float[] gCost = new float[0];
+    private int[] parent = new int[0];
+    private int[] seenStamp = new int[0];
+    private int[] closedStamp = new int[0];
+    private IndexedMinHeap open = new IndexedMinHeap(0);
+    private int generation = 0;
+
+    private int lastExpandedCount = 0;
+    private boolean lastPathPartial = false;
+
+    public HierarchicalPathfinder(PathEngine lowLevel) {
+        this.lowLevel = lowLevel;
+    }
+
+    @Override
+    public boolean findPath(NavMesh navMesh, NavNode start, NavNode target, List<NavNode> out) {
+        out.clear();
+        lastExpandedCount = 0;
+        lastPathPartial = false;
+        if (navMesh == null || !navMesh.isReachable(start, target)) {
+            return false;
+        }
+
+        if (navMesh.hasTileCosts()) {
+            // Abstract edge costs don't include hazards
+            return searchLowLevel(navMesh, start, target, out);
+        }
+
+        ClusterGraph graph = navMesh.getClusterGraph();
+        int startCluster = graph.clusterOf(start.x, start.y);
+        int goalCluster = graph.clusterOf(target.x, target.y);
+        if (startCluster == goalCluster
+            || GridSearch.octile(start.x, start.y, target.x, target.y) < SHORT_QUERY_DISTANCE) {
+            return searchLowLevel(navMesh, start, target, out);
+        }
+
+        if (searchAbstract(navMesh, graph, start, target, startCluster, goalCluster, out)) {
+            return true;
+        }
+        // Connections the abstract graph doesn't model (e.g. diagonal cluster corners)
+        return searchLowLevel(navMesh, start, target, out);
+    }
+
+    @Override
+    public boolean findPath(NavMesh navMesh, NavNode start, NavNode target, float agentRadius, List<NavNode> out) {
+        if (NavMesh.clearanceFor(agentRadius) <= 1) {
+            return findPath(navMesh, start, target, out);
+        }
+        // The cluster graph is built for point agents; large agents search the clearance grid directly
+        out.clear();
+        lastPathPartial = false;
+        boolean found = lowLevel.findPath(navMesh, start, target, agentRadius, out);
+        lastExpandedCount = Math.max(0, lowLevel.getLastExpandedCount());
+        return found;
+    }
+
+    @Override
+    public int getLastExpandedCount() {
+        return lastExpandedCount;
+    }
+
+    @Override
+    public boolean isLastPathPartial() {
+        return lastPathPartial;
+    }
+
+    private boolean searchLowLevel(NavMesh navMesh, NavNode start, NavNode target, List<NavNode> out) {
+        boolean found = lowLevel.findPath(navMesh, start, target, out);
+        lastExpandedCount += Math.max(0, lowLevel.getLastExpandedCount());
+        return found;
+    }
+
+    private boolean searchAbstract(NavMesh navMesh, ClusterGraph graph, NavNode start, NavNode target,
+                                   int startCluster, int goalCluster, List<NavNode> out) {
+        int startTile = navMesh.indexOf(start.x, start.y);
+        int goalTile = navMesh.indexOf(target.x, target.y);
+        floodCluster(navMesh, graph, startSearch, startTile, startCluster);
+        floodCluster(navMesh, graph, goalSearch, goalTile, goalCluster);
+
+        int goalNode = graph.getNodeCount();
+        beginQuery(goalNode + 1);
+
+        // Seed with every entrance of the start cluster reachable from the start tile
+        for (int s = graph.clusterNodesBegin(startCluster); s < graph.clusterNodesEnd(startCluster); s++) {
+            int node = graph.clusterNode(s);
+            float g = startSearch.distanceTo(graph.nodeTile(node));
+            if (g < Float.POSITIVE_INFINITY) {
+                relax(node, -1, g, g + heuristic(navMesh, graph.nodeTile(node), goalTile));
+            }
+        }
+
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            if (current == goalNode) {
+                return refineFirstLeg(navMesh, graph, goalNode, startCluster, out);
+            }
+            closedStamp[current] = generation;
+            lastExpandedCount++;
+
+            float base = gCost[current];
+            int tile = graph.nodeTile(current);
+            if (graph.clusterOfTile(tile) == goalCluster) {
+                float toGoal = goalSearch.distanceTo(tile);
+                if (toGoal < Float.POSITIVE_INFINITY) {
+                    float g = base + toGoal;
+                    if (seenStamp[goalNode] != generation || g < gCost[goalNode]) {
+                        relax(goalNode, current, g, g);
+                    }
+                }
+            }
+
+            for (int e = graph.edgesBegin(current); e < graph.edgesEnd(current); e++) {
+                int next = graph.edgeTarget(e);
+                if (closedStamp[next] == generation) continue;
+                float g = base + graph.edgeCost(e);
+                if (seenStamp[next] != generation || g < gCost[next]) {
+                    relax(next, current, g, g + heuristic(navMesh, graph.nodeTile(next), goalTile));
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lazy refinement: find where the abstract chain first leaves the start cluster, emit the
+     * tiles from the start to that exit, then the step across into the next cluster.
+     */
+    private boolean refineFirstLeg(NavMesh navMesh, ClusterGraph graph, int goalNode, int startCluster, List<NavNode> out) {
+        int exit = -1;
+        int entry = -1;
+        // Walking back from the goal, the last crossing seen is the first one taken
+        for (int node = parent[goalNode]; node >= 0 && parent[node] >= 0; node = parent[node]) {
+            int prev = parent[node];
+            if (graph.clusterOfTile(graph.nodeTile(node)) != startCluster
+                && graph.clusterOfTile(graph.nodeTile(prev)) == startCluster) {
+                entry = node;
+                exit = prev;
+            }
+        }
+        if (exit < 0) return false;
+
+        startSearch.appendPath(graph.nodeTile(exit), out);
+        out.add(navMesh.getNodeByIndex(graph.nodeTile(entry)));
+        lastPathPartial = true;
+        return true;
+    }
+
+    private void floodCluster(NavMesh navMesh, ClusterGraph graph, ClusterSearch search, int tile, int cluster) {
+        int minX = graph.clusterMinX(cluster), minY = graph.clusterMinY(cluster);
+        search.run(navMesh, tile, minX, minY,
+            Math.min(navMesh.getWidth(), minX + ClusterGraph.CLUSTER_SIZE),
+            Math.min(navMesh.getHeight(), minY + ClusterGraph.CLUSTER_SIZE));
+    }
+
+    private void beginQuery(int count) {
+        if (gCost.length < count) {
+            gCost = new float[count];
+            parent = new int[count];
+            seenStamp = new int[count];
+            closedStamp = new int[count];
+            open = new IndexedMinHeap(count);
+            generation = 0;
+        }
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(seenStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            generation = 1;
+        }
+        open.clear();
+    }
+
+    private void relax(int node, int parentNode, float g, float f) {
+        seenStamp[node] = generation;
+        gCost[node] = g;
+        parent[node] = parentNode;
+        open.push(node, f);
+    }
+
+    private static float heuristic(NavMesh navMesh, int tile, int goalTile) {
+        int height = navMesh.getHeight();
+        float h = GridSearch.octile(tile / height, tile % height, goalTile / height, goalTile % height);
+        return Math.max(h, navMesh.getLandmarks().lowerBound(tile, goalTile));
+    }
+}
@@ -0,0 +1,314 @@
+package capstone.main.Pathfinding;
+
+import com.badlogic.gdx.Gdx;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Incremental planner for chasing a moving target (LPA* with the D* Lite key modifier).
+ * The search is rooted at the chaser's anchor tile and grows toward the player. When the
+ * player moves, the previous search stays valid: km absorbs the heuristic shift and only
+ * nodes whose keys now fall below the goal's are re-expanded.
+ * The planner re-roots (full replan) when the chaser is no longer on its path.
+ *
+ * Plans are resumable (begin/step/buildPath, like GridSearch), so the path workers can
+ * charge them to the shared per-frame expansion budget and pause them when it runs out.
+ *
+ * Search arrays are sized to the NavMesh, so planners are pooled: only the few chasers
+ * outside the shared flow field hold one at a time. Plans run on a PathRequestService worker
+ * while the chaser's request holds the planner, and a worker hands the planner of a cancelled
+ * or interrupted request straight back, so the pool is synchronized.
+ */
+public class IncrementalPlanner {
+    private static final int POOL_SIZE = 8;
+    private static final ArrayDeque<IncrementalPlanner> FREE = new ArrayDeque<>();
+    private static int created = 0;
+
+    // Repair vs full replan stats (nodes popped from the open heap), updated from the path workers
+    private static final int LOG_EVERY_REPAIRS = 50;
+    private static long repairs = 0;
+    private static long repairTouched = 0;
+    private static long fullReplans = 0;
+    private static long fullTouched = 0;
+
+    private NavMesh navMesh;
+    private int root = -1;
+    private int goal = -1;
+    private float km = 0f;
+    private int seenCostVersion = 0;
+
+    private float[] g = new float[0];
+    private float[] rhs = new float[0];
+    private int[] stamp = new int[0]; // == generation when g/rhs are valid
+    private IndexedMinHeap open = new IndexedMinHeap(0);
+    private int generation = 0;
+
+    private final List<NavNode> path = new ArrayList<>(); // root .. goal
+    private int lastTouched = 0;
+    private boolean lastWasRepair = false;
+
+    // Plan in progress (kept between step() calls)
+    private int fromTile = -1;
+    private boolean repairing;
+    private int status = GridSearch.FAILED;
+
+    private IncrementalPlanner() {}
+
+    /** Takes a planner from the pool, or returns null when all are in use. */
+    public static synchronized IncrementalPlanner acquire() {
+        IncrementalPlanner planner = FREE.poll();
+        if (planner == null && created < POOL_SIZE) {
+            created++;
+            planner = new IncrementalPlanner();
+        }
+        return planner;
+    }
+
+    public static synchronized void release(IncrementalPlanner planner) {
+        if (planner == null) return;
+        planner.navMesh = null; // don't keep an old world's mesh alive
+        planner.root = -1;
+        planner.goal = -1;
+        planner.path.clear();
+        FREE.push(planner);
+    }
+
+    /**
+     * Writes the path from the chaser's tile to the target into out.
+     * Repairs the previous search when possible, otherwise replans from the chaser's tile.
+     *
+     * @return false when the target is unreachable
+     */
+    public boolean plan(NavMesh navMesh, NavNode from, NavNode target, List<NavNode> out) {
+        begin(navMesh, from, target);
+        boolean found = step(Integer.MAX_VALUE) == GridSearch.FOUND;
+        buildPath(out);
+        return found;
+    }
+
+    /**
+     * Starts a plan toward the target, resumable like GridSearch: step() pops at most a given
+     * number of nodes per call and buildPath() writes the result once it is FOUND.
+     *
+     * @return GridSearch.SEARCHING, or FAILED when the target is unreachable
+     */
+    int begin(NavMesh navMesh, NavNode from, NavNode target) {
+        lastTouched = 0;
+        if (navMesh == null || !navMesh.isReachable(from, target)) {
+            // Also keeps an unreachable target from flooding the chaser's whole region every call
+            status = GridSearch.FAILED;
+            return status;
+        }
+        fromTile = navMesh.indexOf(from.x, from.y);
+        int targetTile = navMesh.indexOf(target.x, target.y);
+
+        // Hazard cost changes re-root rather than repair: they come and go every few seconds at most
+        if (navMesh == this.navMesh && root >= 0 && navMesh.getCostVersion() == seenCostVersion
+            && path.contains(from)) {
+            if (targetTile != goal) {
+                km += GridSearch.octile(goal / navMesh.getHeight(), goal % navMesh.getHeight(), target.x, target.y);
+                goal = targetTile;
+            }
+            repairing = true;
+        } else {
+            startReplan(navMesh, targetTile);
+        }
+        status = GridSearch.SEARCHING;
+        return status;
+    }
+
+    /** Pops up to maxExpansions more nodes; returns the plan's status. */
+    int step(int maxExpansions) {
+        int stopAt = lastTouched + maxExpansions;
+        if (stopAt < 0) stopAt = Integer.MAX_VALUE; // overflow for "no limit"
+
+        while (status == GridSearch.SEARCHING) {
+            if (!computeShortestPath(stopAt)) return status; // out of expansions, resume later
+            extractPath();
+            if (!repairing) {
+                lastWasRepair = false;
+                recordFullReplan(lastTouched);
+                status = path.isEmpty() ? GridSearch.FAILED : GridSearch.FOUND;
+            } else if (path.contains(navMesh.getNodeByIndex(fromTile))) {
+                lastWasRepair = true;
+                recordRepair(lastTouched);
+                status = GridSearch.FOUND;
+            } else {
+                // Repaired path no longer passes the chaser: re-root and keep going
+                startReplan(navMesh, goal);
+            }
+        }
+        return status;
+    }
+
+    /** Writes the path of a FOUND plan from the chaser's tile to the target into out (cleared first). */
+    void buildPath(List<NavNode> out) {
+        out.clear();
+        if (status != GridSearch.FOUND) return;
+        int index = path.indexOf(navMesh.getNodeByIndex(fromTile));
+        if (index >= 0) out.addAll(path.subList(index, path.size()));
+    }
+
+    /** Nodes popped by the last repair or full replan. */
+    public int getLastTouched() { return lastTouched; }
+    public boolean wasLastRepair() { return lastWasRepair; }
+
+    public static synchronized long getRepairCount() { return repairs; }
+    public static synchronized long getRepairTouched() { return repairTouched; }
+    public static synchronized long getFullReplanCount() { return fullReplans; }
+    public static synchronized long getFullReplanTouched() { return fullTouched; }
+
+    // Throws the old search away and seeds a new one rooted at the chaser's tile
+    private void startReplan(NavMesh navMesh, int targetTile) {
+        this.navMesh = navMesh;
+        int count = navMesh.getNodeCount();
+        if (g.length < count) {
+            g = new float[count];
+            rhs = new float[count];
+            stamp = new int[count];
+            open = new IndexedMinHeap(count);
+            generation = 0;
+        }
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+        open.clear();
+        path.clear(); // until this search finishes, there's nothing to repair from
+
+        root = fromTile;
+        goal = targetTile;
+        km = 0f;
+        seenCostVersion = navMesh.getCostVersion();
+        repairing = false;
+
+        touch(root);
+        rhs[root] = 0f;
+        open.push(root, calcKey(root));
+    }
+
+    // Runs LPA* until the goal is settled (true) or lastTouched reaches stopAt (false)
+    private boolean computeShortestPath(int stopAt) {
+        while (!open.isEmpty()) {
+            int u = open.peek();
+            float oldKey = open.peekKey();
+            if (oldKey >= calcKey(goal) && g(goal) == rhs(goal)) break;
+            if (lastTouched >= stopAt) return false;
+
+            float newKey = calcKey(u);
+            if (oldKey < newKey) {
+                open.update(u, newKey); // key was computed before the goal moved
+                continue;
+            }
+
+            open.pop();
+            lastTouched++;
+            NavNode node = navMesh.getNodeByIndex(u);
+            if (g(u) > rhs(u)) {
+                g[u] = rhs[u];
+            } else {
+                g[u] = Float.POSITIVE_INFINITY;
+                updateVertex(u);
+            }
+            for (NavNode neighbor : node.neighbors) {
+                updateVertex(navMesh.indexOf(neighbor.x, neighbor.y));
+            }
+        }
+        return true;
+    }
+
+    private void updateVertex(int u) {
+        touch(u);
+        NavNode node = navMesh.getNodeByIndex(u);
+        if (u != root) {
+            float best = Float.POSITIVE_INFINITY;
+            if (node.walkable) {
+                for (NavNode neighbor : node.neighbors) {
+                    float cost = g(navMesh.indexOf(neighbor.x, neighbor.y)) + edgeCost(node, neighbor);
+                    if (cost < best) best = cost;
+                }
+            }
+            rhs[u] = best;
+        }
+        open.remove(u);
+        if (g[u] != rhs[u]) {
+            open.push(u, calcKey(u));
+        }
+    }
+
+    private void extractPath() {
+        path.clear();
+        if (g(goal) == Float.POSITIVE_INFINITY) return;
+
+        int current = goal;
+        int guard = navMesh.getNodeCount();
+        path.add(navMesh.getNodeByIndex(current));
+        while (current != root && guard-- > 0) {
+            NavNode node = navMesh.getNodeByIndex(current);
+            int best = -1;
+            float bestCost = Float.POSITIVE_INFINITY;
+            for (NavNode neighbor : node.neighbors) {
+                int n = navMesh.indexOf(neighbor.x, neighbor.y);
+                float cost = g(n) + edgeCost(node, neighbor);
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    best = n;
+                }
+            }
+            if (best < 0) {
+                path.clear();
+                return;
+            }
+            current = best;
+            path.add(navMesh.getNodeByIndex(current));
+        }
+        Collections.reverse(path);
+    }
+
+    private float calcKey(int u) {
+        int height = navMesh.getHeight();
+        return Math.min(g(u), rhs(u)) + GridSearch.octile(u / height, u % height, goal / height, goal % height) + km;
+    }
+
+    private void touch(int u) {
+        if (stamp[u] != generation) {
+            stamp[u] = generation;
+            g[u] = Float.POSITIVE_INFINITY;
+            rhs[u] = Float.POSITIVE_INFINITY;
+        }
+    }
+
+    private float g(int u) {
+        return stamp[u] == generation ? g[u] : Float.POSITIVE_INFINITY;
+    }
+
+    private float rhs(int u) {
+        return stamp[u] == generation ? rhs[u] : Float.POSITIVE_INFINITY;
+    }
+
+    // Cost of the step between two neighbours that lands on a (the search grows from the root outward)
+    private float edgeCost(NavNode a, NavNode b) {
+        float cost = (a.x != b.x && a.y != b.y) ? NavMesh.DIAGONAL_COST : 1f;
+        return cost + navMesh.getTileCost(navMesh.indexOf(a.x, a.y));
+    }
+
+    private static synchronized void recordFullReplan(int touched) {
+        fullReplans++;
+        fullTouched += touched;
+    }
+
+    private static synchronized void recordRepair(int touched) {
+        repairs++;
+        repairTouched += touched;
+        if (repairs % LOG_EVERY_REPAIRS == 0 && fullReplans > 0) {
+            Gdx.app.log("IncrementalPlanner", "avg nodes per repair=" + (repairTouched / repairs)
+                + " vs per full replan=" + (fullTouched / fullReplans)
+                + " (" + repairs + " repairs, " + fullReplans + " full)");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package capstone.main.Pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap over grid indices with decrease-key.
+ * Keys and heap positions live in arrays sized to the NavMesh,
+ * so pushes/pops never allocate once the heap is constructed.
+ */
+class IndexedMinHeap {
+    private final int[] heap;      // heap slot -> grid index
+    private final int[] position;  // grid index -> heap slot (-1 when not queued)
+    private final float[] keys;    // grid index -> priority
+    private int size = 0;
+
+    IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new float[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int index) {
+        return position[index] >= 0;
+    }
+
+    float keyOf(int index) {
+        return keys[index];
+    }
+
+    /** Grid index with the lowest key, without removing it. */
+    int peek() {
+        return heap[0];
+    }
+
+    float peekKey() {
+        return keys[heap[0]];
+    }
+
+    /** Sets the key of a queued or new index, whether it goes up or down. */
+    void update(int index, float key) {
+        remove(index);
+        push(index, key);
+    }
+
+    /** Inserts the index, or lowers its key if it is already queued with a larger one. */
+    void push(int index, float key) {
+        int slot = position[index];
+        if (slot < 0) {
+            keys[index] = key;
+            heap[size] = index;
+            position[index] = size;
+            siftUp(size++);
+        } else if (key < keys[index]) {
+            keys[index] = key;
+            siftUp(slot);
+        }
+    }
+
+    /** Removes and returns the grid index with the lowest key. */
+    int pop() {
+        int top = heap[0];
+        position[top] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /** Removes an arbitrary queued index (no-op when it is not queued). */
+    void remove(int index) {
+        int slot = position[index];
+        if (slot < 0) return;
+        position[index] = -1;
+        size--;
+        if (slot == size) return;
+        int last = heap[size];
+        heap[slot] = last;
+        position[last] = slot;
+        siftUp(slot);
+        siftDown(position[last]);
+    }
+
+    /** Empties the heap in O(size) rather than O(capacity). */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int slot) {
+        int index = heap[slot];
+        float key = keys[index];
+        while (slot > 0) {
+            int parentSlot = (slot - 1) >>> 1;
+            int parent = heap[parentSlot];
+            if (keys[parent] <= key) break;
+            heap[slot] = parent;
+            position[parent] = slot;
+            slot = parentSlot;
+        }
+        heap[slot] = index;
+        position[index] = slot;
+    }
+
+    private void siftDown(int slot) {
+        int index = heap[slot];
+        float key = keys[index];
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            int right = child + 1;
+            if (right < size && keys[heap[right]] < keys[heap[child]]) {
+                child = right;
+            }
+            int childIndex = heap[child];
+            if (key <= keys[childIndex]) break;
+            heap[slot] = childIndex;
+            position[childIndex] = slot;
+            slot = child;
+        }
+        heap[slot] = index;
+        position[index] = slot;
+    }
+}
@@ -0,0 +1,135 @@
+package capstone.main.Pathfinding;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Jump Point Search for the uniform-cost, 8-connected NavMesh grid.
+ * Uses the same movement model as NavMesh neighbours (a diagonal step only needs the
+ * destination tile to be walkable), so path costs match A*. Only jump points are pushed
+ * onto the open heap; the returned path is expanded back to every tile so callers can
+ * follow it exactly like an A* path. While hazard costs are stamped on the mesh the grid
+ * is no longer uniform, so it expands tile by tile like plain A*.
+ */
+public class JumpPointSearch extends GridSearch {
+
+    @Override
+    protected void expand(int current) {
+        if (weighted) {
+            // Jumping assumes every tile costs the same; with hazards stamped, search tile by tile
+            expandNeighbors(current);
+            return;
+        }
+        int height = navMesh.getHeight();
+        int x = current / height;
+        int y = current % height;
+        int p = parent[current];
+        if (p < 0) {
+            // Start node: try all 8 directions
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    if (dx != 0 || dy != 0) expand(current, x, y, dx, dy);
+                }
+            }
+        } else {
+            int dx = Integer.signum(x - p / height);
+            int dy = Integer.signum(y - p % height);
+            expandPruned(current, x, y, dx, dy);
+        }
+    }
+
+    // Natural + forced neighbours for a node reached travelling in (dx, dy)
+    private void expandPruned(int current, int x, int y, int dx, int dy) {
+        if (dx != 0 && dy != 0) {
+            expand(current, x, y, 0, dy);
+            expand(current, x, y, dx, 0);
+            expand(current, x, y, dx, dy);
+            if (!walkable(x - dx, y)) expand(current, x, y, -dx, dy);
+            if (!walkable(x, y - dy)) expand(current, x, y, dx, -dy);
+        } else if (dx != 0) {
+            expand(current, x, y, dx, 0);
+            if (!walkable(x, y + 1)) expand(current, x, y, dx, 1);
+            if (!walkable(x, y - 1)) expand(current, x, y, dx, -1);
+        } else {
+            expand(current, x, y, 0, dy);
+            if (!walkable(x + 1, y)) expand(current, x, y, 1, dy);
+            if (!walkable(x - 1, y)) expand(current, x, y, -1, dy);
+        }
+    }
+
+    private void expand(int current, int x, int y, int dx, int dy) {
+        int jumpPoint = jump(x + dx, y + dy, dx, dy);
+        if (jumpPoint < 0 || isClosed(jumpPoint)) return;
+
+        int height = navMesh.getHeight();
+        int jx = jumpPoint / height;
+        int jy = jumpPoint % height;
+        // Jumps are straight or diagonal lines, so octile distance is the exact cost
+        float g = gCost[current] + octile(x, y, jx, jy);
+        if (!isSeen(jumpPoint) || g < gCost[jumpPoint]) {
+            relax(jumpPoint, current, g, g + heuristic(jumpPoint, jx, jy));
+        }
+    }
+
+    /** Walks from (x, y) in direction (dx, dy) until a jump point, the target, or a wall. */
+    private int jump(int x, int y, int dx, int dy) {
+        while (true) {
+            if (!walkable(x, y)) return -1;
+            if (x == targetX && y == targetY) return navMesh.indexOf(x, y);
+
+            if (dx != 0 && dy != 0) {
+                if ((walkable(x - dx, y + dy) && !walkable(x - dx, y))
+                    || (walkable(x + dx, y - dy) && !walkable(x, y - dy))) {
+                    return navMesh.indexOf(x, y);
+                }
+                // Diagonal moves must stop where a straight jump would find something
+                if (jump(x + dx, y, dx, 0) >= 0 || jump(x, y + dy, 0, dy) >= 0) {
+                    return navMesh.indexOf(x, y);
+                }
+            } else if (dx != 0) {
+                if ((walkable(x + dx, y + 1) && !walkable(x, y + 1))
+                    || (walkable(x + dx, y - 1) && !walkable(x, y - 1))) {
+                    return navMesh.indexOf(x, y);
+                }
+            } else {
+                if ((walkable(x + 1, y + dy) && !walkable(x + 1, y))
+                    || (walkable(x - 1, y + dy) && !walkable(x - 1, y))) {
+                    return navMesh.indexOf(x, y);
+                }
+            }
+
+            x += dx;
+            y += dy;
+        }
+    }
+
+    // Tiles the agent can't fit on are treated as walls, so jumps stay on the clearance grid
+    private boolean walkable(int x, int y) {
+        return navMesh.isWalkable(x, y) && fits(navMesh.indexOf(x, y));
+    }
+
+    // Expands the jump-point chain back into every tile along it
+    @Override
+    protected void reconstructPath(int endIndex, List<NavNode> out) {
+        int height = navMesh.getHeight();
+        for (int i = endIndex; i >= 0; i = parent[i]) {
+            int p = parent[i];
+            int x = i / height;
+            int y = i % height;
+            if (p < 0) {
+                out.add(navMesh.getNode(x, y));
+                break;
+            }
+            int px = p / height;
+            int py = p % height;
+            int dx = Integer.signum(px - x);
+            int dy = Integer.signum(py - y);
+            while (x != px || y != py) {
+                out.add(navMesh.getNode(x, y));
+                x += dx;
+                y += dy;
+            }
+        }
+        Collections.reverse(out);
+    }
+}
@@ -0,0 +1,80 @@
+package capstone.main.Pathfinding;
+
+/**
+ * ALT heuristic data: a few landmark tiles, each with a full table of path costs to every
+ * tile. By the triangle inequality |d(L, goal) - d(L, n)| never overestimates the cost
+ * from n to the goal, and behind long walls it is far tighter than octile distance.
+ *
+ * Landmarks are picked by farthest-point sampling in the mesh's largest region (each
+ * one is the tile farthest from those already chosen), so they end up at the edges and
+ * corners of the map where the bound is strongest. Tables are immutable once built and
+ * safe to read from the path workers.
+ */
+final class Landmarks {
+    static final int LANDMARK_COUNT = 8;
+
+    private final int[] tiles;
+    private final float[][] tables; // tables[l][tile] = cost from landmark l, +inf when unreachable
+
+    Landmarks(int[] tiles, float[][] tables) {
+        this.tiles = tiles;
+        this.tables = tables;
+    }
+
+    static Landmarks build(NavMesh navMesh) {
+        int count = navMesh.getNodeCount();
+        int seed = -1;
+        for (int i = 0; i < count && seed < 0; i++) {
+            int component = navMesh.getComponent(i);
+            if (component != 0 && component == navMesh.getLargestComponent()) seed = i;
+        }
+        if (seed < 0) return new Landmarks(new int[0], new float[0][]);
+
+        IndexedMinHeap open = new IndexedMinHeap(count);
+        float[] scratch = new float[count];
+        int[] chosen = new int[LANDMARK_COUNT];
+        float[][] tables = new float[LANDMARK_COUNT][];
+
+        // Farthest from an arbitrary tile, then farthest from everything chosen so far
+        int[] sources = { seed };
+        int next = Dijkstra.flood(navMesh, sources, 1, scratch, null, open, -1);
+        int chosenCount = 0;
+        while (chosenCount < LANDMARK_COUNT) {
+            if (next < 0 || (chosenCount > 0 && scratch[next] == 0f)) break; // region smaller than the landmark count
+            chosen[chosenCount] = next;
+            sources[0] = next;
+            tables[chosenCount] = new float[count];
+            Dijkstra.flood(navMesh, sources, 1, tables[chosenCount], null, open, -1);
+            chosenCount++;
+            if (chosenCount < LANDMARK_COUNT) {
+                next = Dijkstra.flood(navMesh, chosen, chosenCount, scratch, null, open, -1);
+            }
+        }
+
+        int[] tiles = new int[chosenCount];
+        float[][] kept = new float[chosenCount][];
+        System.arraycopy(chosen, 0, tiles, 0, chosenCount);
+        System.arraycopy(tables, 0, kept, 0, chosenCount);
+        return new Landmarks(tiles, kept);
+    }
+
+    /** Lower bound on the path cost between two tiles (0 when no landmark reaches both). */
+    float lowerBound(int from, int to) {
+        float best = 0f;
+        for (float[] table : tables) {
+            float a = table[from];
+            float b = table[to];
+            if (a == Float.POSITIVE_INFINITY || b == Float.POSITIVE_INFINITY) continue;
+            float bound = Math.abs(a - b);
+            if (bound > best) best = bound;
+        }
+        return best;
+    }
+
+    int size() { return tiles.length; }
+    int tileAt(int i) { return tiles[i]; }
+
+    // Raw tables for NavGridCache
+    int[] getTiles() { return tiles; }
+    float[][] getTables() { return tables; }
+}
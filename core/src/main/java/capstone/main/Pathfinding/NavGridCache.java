@@ -0,0 +1,118 @@
+package capstone.main.Pathfinding;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+
+/**
+ * On-disk cache of built NavMeshes, so returning to a world loads its walkability bitmap and
+ * every derived table (clearance, regions, landmark floods, cluster graph) from one binary file
+ * instead of rasterizing the collision layer and running the floods again.
+ * Files are keyed by a hash of the map size, the collision layer's rectangles (what
+ * CollisionLoader reads from the .tmx) and the constants the tables depend on, so editing a
+ * map's collisions misses the old file. Bump FORMAT_VERSION when a table's algorithm changes.
+ *
+ * File layout: magic, format version, width, height, key, bitmap length, bitmap bytes,
+ * then NavMeshTables.
+ */
+public final class NavGridCache {
+    private static final String DIRECTORY = "navcache/";
+    private static final int MAGIC = 0x4E415647; // "NAVG"
+    private static final int FORMAT_VERSION = 2;
+
+    private NavGridCache() {}
+
+    public static NavMesh load(int tilesWide, int tilesHigh, ArrayList<Rectangle> obstacles) {
+        long started = System.nanoTime();
+        long key = hash(tilesWide, tilesHigh, obstacles);
+        FileHandle file = Gdx.files != null
+            ? Gdx.files.local(DIRECTORY + "navgrid-" + Long.toHexString(key) + ".bin")
+            : null;
+
+        NavMesh navMesh = file != null ? read(file, tilesWide, tilesHigh, key) : null;
+        if (navMesh != null) {
+            Gdx.app.log("NavGridCache", "Loaded " + tilesWide + "x" + tilesHigh + " mesh from " + file.name()
+                + " in " + millisSince(started) + " ms");
+            return navMesh;
+        }
+
+        BitSet blocked = NavMesh.rasterize(tilesWide, tilesHigh, obstacles);
+        navMesh = new NavMesh(tilesWide, tilesHigh, blocked);
+        Gdx.app.log("NavGridCache", "Built " + tilesWide + "x" + tilesHigh + " mesh in " + millisSince(started) + " ms");
+        if (file != null) write(file, tilesWide, tilesHigh, key, blocked, navMesh);
+        return navMesh;
+    }
+
+    private static NavMesh read(FileHandle file, int width, int height, long key) {
+        if (!file.exists()) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(file.read()))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION
+                || in.readInt() != width || in.readInt() != height || in.readLong() != key) {
+                return null;
+            }
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            BitSet blocked = BitSet.valueOf(bytes);
+            NavMeshTables tables = NavMeshTables.read(in, width, height, blocked);
+            return new NavMesh(width, height, blocked, tables);
+        } catch (IOException | RuntimeException e) {
+            Gdx.app.error("NavGridCache", "Ignoring unreadable " + file.name() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void write(FileHandle file, int width, int height, long key, BitSet blocked, NavMesh navMesh) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file.write(false)))) {
+            byte[] bytes = blocked.toByteArray();
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(width);
+            out.writeInt(height);
+            out.writeLong(key);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+            navMesh.getTables().write(out);
+        } catch (IOException | RuntimeException e) {
+            // Not fatal: we just build the mesh again next time
+            Gdx.app.error("NavGridCache", "Could not write " + file.name() + ": " + e.getMessage());
+        }
+    }
+
+    private static long millisSince(long started) {
+        return (System.nanoTime() - started) / 1_000_000L;
+    }
+
+    // 64-bit FNV-1a over the grid size, the table constants and every rectangle's bits
+    private static long hash(int width, int height, ArrayList<Rectangle> obstacles) {
+        long h = 0xcbf29ce484222325L;
+        h = mix(h, ClusterGraph.CLUSTER_SIZE);
+        h = mix(h, Landmarks.LANDMARK_COUNT);
+        h = mix(h, NavMesh.NEAREST_RADIUS);
+        h = mix(h, width);
+        h = mix(h, height);
+        h = mix(h, obstacles.size());
+        for (Rectangle r : obstacles) {
+            h = mix(h, Float.floatToIntBits(r.x));
+            h = mix(h, Float.floatToIntBits(r.y));
+            h = mix(h, Float.floatToIntBits(r.width));
+            h = mix(h, Float.floatToIntBits(r.height));
+        }
+        return h;
+    }
+
+    private static long mix(long h, int value) {
+        for (int i = 0; i < 4; i++) {
+            h ^= (value >>> (i * 8)) & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+}
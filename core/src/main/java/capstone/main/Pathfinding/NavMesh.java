@@ -3,67 +3,406 @@ package capstone.main.Pathfinding;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Rectangle;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 public class NavMesh {
 
+    static final float DIAGONAL_COST = (float) Math.sqrt(2);
+
     private final int width, height; // grid size in tiles
     private final float nodeSize;    // size of each node in world units (1 tile = 1 unit)
     private NavNode[][] nodes;
+    private final byte[] clearance; // chessboard distance (tiles) to the nearest blocked tile or map edge; 0 when blocked
+    private final int[] component;  // connected walkable region label, 0 when blocked
+    private final int[] nearestWalkable; // closest walkable tile index (itself when walkable), -1 when none within NEAREST_RADIUS
+
+    static final int NEAREST_RADIUS = 3; // tiles (chessboard) a position may be snapped
+    private int componentCount;
+    private int largestComponent;
+    private final Landmarks landmarks; // ALT distance tables
 
     int generatedCount = 0;
+    private final NavNode[] neighborScratch = new NavNode[8];
+
+    // Unique per mesh instance, so caches can tell a rebuilt/transitioned mesh apart
+    private static int nextGeneration = 0;
+    private final int generation = ++nextGeneration;
+
+    private FlowField flowField; // shared chase field, built lazily
+    private final ClusterGraph clusterGraph; // abstract graph for hierarchical queries
+
+    // Hazard cost layer: extra cost for stepping onto a tile, stamped and removed by hazards at runtime.
+    // Changes are versioned per COST_REGION_SIZE block so caches only drop paths through changed blocks.
+    public static final int COST_REGION_SIZE = ClusterGraph.CLUSTER_SIZE;
+    private static final float DETOUR_MARGIN = 2f; // tiles around a stamp whose paths may have detoured around it
+    private final float[] tileCost;
+    private int costedTiles = 0;
+    private final int regionsHigh;
+    private final int[] regionCostVersion;
+    private int costVersion = 0;
 
     public NavMesh(int tilesWide, int tilesHigh, ArrayList<Rectangle> obstacles) {
+        this(tilesWide, tilesHigh, rasterize(tilesWide, tilesHigh, obstacles));
+    }
+
+    /** Builds the mesh from a walkability bitmap (bit x * height + y set = blocked). */
+    public NavMesh(int tilesWide, int tilesHigh, BitSet blocked) {
+        this(tilesWide, tilesHigh, blocked, null);
+    }
+
+    /** As above, but takes the derived tables from a NavGridCache file when given instead of computing them. */
+    NavMesh(int tilesWide, int tilesHigh, BitSet blocked, NavMeshTables tables) {
         this.nodeSize = 1.0f;  // each node is 1x1 world unit
         this.width = tilesWide;
         this.height = tilesHigh;
         nodes = new NavNode[width][height];
 
-        // Generate nodes with proper collision detection
         for (int x = 0; x < width; x++) {
             for (int y = 0; y < height; y++) {
-                boolean walkable = true;
-                
-                // Create rectangle for this tile (full tile area, not just center point)
-                Rectangle tileRect = new Rectangle(x, y, nodeSize, nodeSize);
-                
-                for (Rectangle r : obstacles) {
-                    // Check if tile overlaps with any obstacle (not just center point)
-                    if (tileRect.overlaps(r)) {
-                        walkable = false;
-                        break;
-                    }
-                }
-                nodes[x][y] = new NavNode(x, y, walkable, nodeSize);
+                nodes[x][y] = new NavNode(x, y, !blocked.get(x * height + y), nodeSize);
                 generatedCount++;
             }
         }
         Gdx.app.log("NavMesh", "Generated nodes: " + generatedCount);
 
+        if (tables != null) {
+            clearance = tables.clearance;
+            nearestWalkable = tables.nearestWalkable;
+        } else {
+            clearance = new byte[width * height];
+            computeClearance();
+
+            nearestWalkable = new int[width * height];
+            computeNearestWalkable();
+        }
+
         // Connect neighbors
         for (int x = 0; x < width; x++) {
             for (int y = 0; y < height; y++) {
-                ArrayList<NavNode> neighbors = new ArrayList<>();
+                connect(x, y);
+            }
+        }
+
+        if (tables != null) {
+            component = tables.component;
+            componentCount = tables.componentCount;
+            largestComponent = tables.largestComponent;
+        } else {
+            component = new int[width * height];
+            labelComponents();
+        }
+
+        tileCost = new float[width * height];
+        regionsHigh = (height + COST_REGION_SIZE - 1) / COST_REGION_SIZE;
+        regionCostVersion = new int[((width + COST_REGION_SIZE - 1) / COST_REGION_SIZE) * regionsHigh];
+
+        if (tables != null) {
+            landmarks = new Landmarks(tables.landmarkTiles, tables.landmarkTables);
+            clusterGraph = new ClusterGraph(this, tables.clusterNodeTile, tables.clusterEdgeStart,
+                tables.clusterEdgeTarget, tables.clusterEdgeCost);
+        } else {
+            landmarks = Landmarks.build(this);
+            clusterGraph = new ClusterGraph(this);
+        }
+    }
+
+    /** The derived tables, for NavGridCache to store next to the bitmap. */
+    NavMeshTables getTables() {
+        return new NavMeshTables(clearance, nearestWalkable, component, componentCount, largestComponent,
+            landmarks.getTiles(), landmarks.getTables(), clusterGraph.getNodeTiles(), clusterGraph.getEdgeStarts(),
+            clusterGraph.getEdgeTargets(), clusterGraph.getEdgeCosts());
+    }
+
+    /**
+     * Marks every tile an obstacle overlaps, visiting only the tiles under each rectangle
+     * instead of testing every tile against every obstacle. Matches Rectangle.overlaps()
+     * against the 1x1 tile: edges that only touch a tile don't block it.
+     */
+    static BitSet rasterize(int width, int height, List<Rectangle> obstacles) {
+        BitSet blocked = new BitSet(width * height);
+        for (Rectangle r : obstacles) {
+            int minX = Math.max(0, (int) Math.floor(r.x));
+            int minY = Math.max(0, (int) Math.floor(r.y));
+            int maxX = Math.min(width, (int) Math.ceil(r.x + r.width));
+            int maxY = Math.min(height, (int) Math.ceil(r.y + r.height));
+            if (minY >= maxY) continue;
+            for (int x = minX; x < maxX; x++) {
+                blocked.set(x * height + minY, x * height + maxY);
+            }
+        }
+        return blocked;
+    }
+
+    /**
+     * Two-pass chessboard distance transform. A walkable tile with clearance d has the whole
+     * (2d-1) x (2d-1) square centred on it walkable (1 = only the tile itself); capped at 127.
+     */
+    private void computeClearance() {
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (!nodes[x][y].walkable) {
+                    clearance[x * height + y] = 0;
+                    continue;
+                }
+                int d = Math.min(Math.min(clearanceAt(x - 1, y - 1), clearanceAt(x - 1, y)),
+                    Math.min(clearanceAt(x - 1, y + 1), clearanceAt(x, y - 1))) + 1;
+                clearance[x * height + y] = (byte) Math.min(d, Byte.MAX_VALUE);
+            }
+        }
+        for (int x = width - 1; x >= 0; x--) {
+            for (int y = height - 1; y >= 0; y--) {
+                if (!nodes[x][y].walkable) continue;
+                int d = Math.min(Math.min(clearanceAt(x + 1, y + 1), clearanceAt(x + 1, y)),
+                    Math.min(clearanceAt(x + 1, y - 1), clearanceAt(x, y + 1))) + 1;
+                if (d < clearance[x * height + y]) clearance[x * height + y] = (byte) d;
+            }
+        }
+    }
+
+    /**
+     * Flood-fills 8-connected walkable regions (the same moves the engines take), so two
+     * tiles with different labels can never be joined by a path.
+     */
+    private void labelComponents() {
+        Arrays.fill(component, 0);
+        int[] queue = new int[width * height];
+        int label = 0;
+        int largestSize = 0;
+        for (int start = 0; start < component.length; start++) {
+            if (component[start] != 0 || !getNodeByIndex(start).walkable) continue;
+            label++;
+            component[start] = label;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+            while (head < tail) {
+                for (NavNode neighbor : getNodeByIndex(queue[head++]).neighbors) {
+                    int index = indexOf(neighbor.x, neighbor.y);
+                    if (component[index] == 0) {
+                        component[index] = label;
+                        queue[tail++] = index;
+                    }
+                }
+            }
+            if (tail > largestSize) {
+                largestSize = tail;
+                largestComponent = label;
+            }
+        }
+        componentCount = label;
+    }
+
+    /**
+     * Breadth-first from every walkable tile at once, ring by ring, so each blocked tile
+     * gets the walkable tile closest to it (chessboard distance) up to NEAREST_RADIUS away.
+     */
+    private void computeNearestWalkable() {
+        Arrays.fill(nearestWalkable, -1);
+        int[] queue = new int[width * height];
+        int tail = 0;
+        for (int i = 0; i < nearestWalkable.length; i++) {
+            if (getNodeByIndex(i).walkable) {
+                nearestWalkable[i] = i;
+                queue[tail++] = i;
+            }
+        }
+        int head = 0;
+        for (int ring = 1; ring <= NEAREST_RADIUS && head < tail; ring++) {
+            int ringEnd = tail;
+            while (head < ringEnd) {
+                int current = queue[head++];
+                int x = current / height;
+                int y = current % height;
                 for (int dx = -1; dx <= 1; dx++) {
                     for (int dy = -1; dy <= 1; dy++) {
-                        if (dx == 0 && dy == 0) continue;
                         int nx = x + dx;
                         int ny = y + dy;
-                        if (nx >= 0 && nx < width && ny >= 0 && ny < height && nodes[nx][ny].walkable) {
-                            neighbors.add(nodes[nx][ny]);
+                        if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                        int n = nx * height + ny;
+                        if (nearestWalkable[n] < 0) {
+                            nearestWalkable[n] = nearestWalkable[current];
+                            queue[tail++] = n;
                         }
                     }
                 }
-                nodes[x][y].neighbors = neighbors.toArray(new NavNode[0]);
             }
         }
     }
 
+    // Outside the map counts as blocked
+    private int clearanceAt(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return 0;
+        return clearance[x * height + y];
+    }
+
+    private void connect(int x, int y) {
+        int count = 0;
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                if (dx == 0 && dy == 0) continue;
+                int nx = x + dx;
+                int ny = y + dy;
+                if (nx >= 0 && nx < width && ny >= 0 && ny < height && nodes[nx][ny].walkable) {
+                    neighborScratch[count++] = nodes[nx][ny];
+                }
+            }
+        }
+        nodes[x][y].neighbors = Arrays.copyOf(neighborScratch, count);
+    }
+
+    /**
+     * Adds cost to every tile whose centre lies in the circle; engines then treat stepping onto
+     * those tiles as that much further. Call {@link #removeTileCost} with the same arguments to undo.
+     */
+    public void addTileCost(float worldX, float worldY, float radius, float cost) {
+        stampCost(worldX, worldY, radius, cost);
+    }
+
+    public void removeTileCost(float worldX, float worldY, float radius, float cost) {
+        stampCost(worldX, worldY, radius, -cost);
+    }
+
+    private void stampCost(float cx, float cy, float radius, float delta) {
+        int minX = Math.max(0, (int) Math.floor(cx - radius));
+        int minY = Math.max(0, (int) Math.floor(cy - radius));
+        int maxX = Math.min(width - 1, (int) Math.floor(cx + radius));
+        int maxY = Math.min(height - 1, (int) Math.floor(cy + radius));
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                float dx = x + 0.5f - cx;
+                float dy = y + 0.5f - cy;
+                if (dx * dx + dy * dy > radius * radius) continue;
+
+                int index = x * height + y;
+                float before = tileCost[index];
+                float after = before + delta;
+                if (after < 1e-3f) after = 0f; // don't leave rounding residue behind
+                if (before == 0f && after != 0f) costedTiles++;
+                else if (before != 0f && after == 0f) costedTiles--;
+                tileCost[index] = after;
+            }
+        }
+
+        costVersion++;
+        float reach = radius + DETOUR_MARGIN;
+        int regionMinX = Math.max(0, (int) Math.floor(cx - reach)) / COST_REGION_SIZE;
+        int regionMinY = Math.max(0, (int) Math.floor(cy - reach)) / COST_REGION_SIZE;
+        int regionMaxX = Math.min(width - 1, (int) Math.floor(cx + reach)) / COST_REGION_SIZE;
+        int regionMaxY = Math.min(height - 1, (int) Math.floor(cy + reach)) / COST_REGION_SIZE;
+        for (int rx = regionMinX; rx <= regionMaxX; rx++) {
+            for (int ry = regionMinY; ry <= regionMaxY; ry++) {
+                regionCostVersion[rx * regionsHigh + ry] = costVersion;
+            }
+        }
+    }
+
+    /** Extra cost for stepping onto the tile (0 for plain ground). */
+    public float getTileCost(int index) {
+        return tileCost[index];
+    }
+
+    /** True while any tile carries a hazard cost (uniform-cost shortcuts like JPS don't apply then). */
+    public boolean hasTileCosts() {
+        return costedTiles > 0;
+    }
+
+    public int getCostVersion() { return costVersion; }
+
+    /**
+     * Bits of the cost regions a path can cross. Each leg between waypoints stays inside the box
+     * its two ends span, so this also covers smoothed paths. Regions share bits beyond 64, which
+     * only means a few extra paths get invalidated.
+     */
+    long regionMask(List<NavNode> path) {
+        long mask = 0L;
+        for (int i = 0; i < path.size(); i++) {
+            NavNode a = path.get(i);
+            NavNode b = path.get(i + 1 < path.size() ? i + 1 : i);
+            int maxRx = Math.max(a.x, b.x) / COST_REGION_SIZE;
+            int maxRy = Math.max(a.y, b.y) / COST_REGION_SIZE;
+            for (int rx = Math.min(a.x, b.x) / COST_REGION_SIZE; rx <= maxRx; rx++) {
+                for (int ry = Math.min(a.y, b.y) / COST_REGION_SIZE; ry <= maxRy; ry++) {
+                    mask |= 1L << ((rx * regionsHigh + ry) & 63);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /** Region bits whose costs changed after the given cost version. */
+    long getCostRegionsChangedSince(int version) {
+        long mask = 0L;
+        for (int r = 0; r < regionCostVersion.length; r++) {
+            if (regionCostVersion[r] > version) mask |= 1L << (r & 63);
+        }
+        return mask;
+    }
+
+    /** Clearance of a tile (see {@link #clearanceFor(float)}), 0 when blocked. */
+    public int getClearance(int index) {
+        return clearance[index];
+    }
+
+    /**
+     * Clearance a tile needs for an agent of the given radius standing on its centre.
+     * A tile's centre is 0.5 from its own edge, so the nearest blocked tile must be at least
+     * radius + 0.5 away. Radius 0 gives 1, which every walkable tile has.
+     */
+    public static int clearanceFor(float agentRadius) {
+        return Math.max(1, (int) Math.ceil(agentRadius + 0.5f));
+    }
+
+    /**
+     * Closest tile to node (in rings) with at least the given clearance, or null if none is
+     * nearby. Used to snap a large agent's start/goal out of spots it can't stand in.
+     */
+    public NavNode nearestWithClearance(NavNode node, int required) {
+        if (node == null) return null;
+        if (clearance[indexOf(node.x, node.y)] >= required) return node;
+        int maxRadius = 2 * required + 1;
+        for (int r = 1; r <= maxRadius; r++) {
+            for (int dx = -r; dx <= r; dx++) {
+                for (int dy = -r; dy <= r; dy++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dy)) != r) continue; // ring only
+                    if (clearanceAt(node.x + dx, node.y + dy) >= required) return nodes[node.x + dx][node.y + dy];
+                }
+            }
+        }
+        return null;
+    }
+
+    /** Connected region label of a tile, 0 when blocked. */
+    public int getComponent(int index) {
+        return component[index];
+    }
+
+    /**
+     * O(1) check that a path between the two tiles can exist. False means no engine can
+     * find one; true is exact for point agents, while large agents may still not fit.
+     */
+    public boolean isReachable(NavNode from, NavNode to) {
+        if (from == null || to == null || !from.walkable || !to.walkable) return false;
+        return component[indexOf(from.x, from.y)] == component[indexOf(to.x, to.y)];
+    }
+
+    public int getComponentCount() { return componentCount; }
+    Landmarks getLandmarks() { return landmarks; }
+    /** Label of the region with the most tiles (the main play area), 0 if nothing is walkable. */
+    public int getLargestComponent() { return largestComponent; }
+
+    public int getGeneration() { return generation; }
+
     public NavNode getNode(int x, int y) {
         if (x < 0 || y < 0 || x >= width || y >= height) return null;
         return nodes[x][y];
     }
 
+    public boolean isWalkable(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height && nodes[x][y].walkable;
+    }
+
     // Convert world position to node
     public NavNode getNodeByWorldPos(float worldX, float worldY) {
         int x = (int) Math.floor(worldX);
@@ -71,6 +410,25 @@ public class NavMesh {
         return getNode(x, y);
     }
 
+    // Flat grid index used by the array-backed pathfinding structures
+    public int indexOf(int x, int y) { return x * height + y; }
+
+    public NavNode getNodeByIndex(int index) {
+        return nodes[index / height][index % height];
+    }
+
+    public int getNodeCount() { return width * height; }
+
+    /** Flow field shared by every enemy chasing on this mesh. */
+    public FlowField getFlowField() {
+        if (flowField == null) {
+            flowField = new FlowField(this);
+        }
+        return flowField;
+    }
+
+    public ClusterGraph getClusterGraph() { return clusterGraph; }
+
     public int getWidth() { return width; }
     public int getHeight() { return height; }
     public float getNodeSize() { return nodeSize; }
@@ -89,32 +447,24 @@ public class NavMesh {
         return getNearestNode(pos.x, pos.y);
     }
 
+    /**
+     * Walkable tile at the position, or the closest walkable tile within a few tiles of it
+     * (null if there is none). A table lookup, so callers can use it freely every frame.
+     */
     public NavNode getNearestNode(float worldX, float worldY) {
         // Convert world coordinates to tile-space
         int x = (int) Math.floor(worldX / nodeSize);
         int y = (int) Math.floor(worldY / nodeSize);
 
-        // If direct node is valid and walkable, return it
-        NavNode node = getNode(x, y);
-        if (node != null && node.walkable) {
-            return node;
-        }
-
-        // Otherwise search outward (spiral) for the nearest walkable node
-        int maxRadius = 3; // search up to 3 tiles around (expand if needed)
-
-        for (int r = 1; r <= maxRadius; r++) {
-            for (int dx = -r; dx <= r; dx++) {
-                for (int dy = -r; dy <= r; dy++) {
-                    NavNode candidate = getNode(x + dx, y + dy);
-                    if (candidate != null && candidate.walkable) {
-                        return candidate;
-                    }
-                }
-            }
+        // Just off the map: snap from the nearest edge tile
+        if (x < -NEAREST_RADIUS || y < -NEAREST_RADIUS || x >= width + NEAREST_RADIUS || y >= height + NEAREST_RADIUS) {
+            return null;
         }
+        x = Math.max(0, Math.min(width - 1, x));
+        y = Math.max(0, Math.min(height - 1, y));
 
-        return null; // no valid node found within search radius
+        int nearest = nearestWalkable[x * height + y];
+        return nearest < 0 ? null : getNodeByIndex(nearest);
     }
 
 }
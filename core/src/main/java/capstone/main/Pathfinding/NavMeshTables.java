@@ -0,0 +1,145 @@
+package capstone.main.Pathfinding;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+/**
+ * Everything a NavMesh derives from its walkability bitmap: clearance, nearest-walkable
+ * snapping, region labels, the ALT landmark tables and the cluster graph. Building the landmark
+ * floods and cluster edges is most of a mesh's construction time, so NavGridCache stores these
+ * next to the bitmap and hands them back to the NavMesh constructor instead of recomputing them.
+ *
+ * read() checks every index against the grid, so a damaged file is rejected (and rebuilt)
+ * rather than producing a mesh that throws mid-search.
+ */
+final class NavMeshTables {
+    final byte[] clearance;
+    final int[] nearestWalkable;
+    final int[] component;
+    final int componentCount;
+    final int largestComponent;
+    final int[] landmarkTiles;
+    final float[][] landmarkTables;
+    final int[] clusterNodeTile;
+    final int[] clusterEdgeStart;
+    final int[] clusterEdgeTarget;
+    final float[] clusterEdgeCost;
+
+    NavMeshTables(byte[] clearance, int[] nearestWalkable, int[] component, int componentCount,
+                  int largestComponent, int[] landmarkTiles, float[][] landmarkTables,
+                  int[] clusterNodeTile, int[] clusterEdgeStart, int[] clusterEdgeTarget, float[] clusterEdgeCost) {
+        this.clearance = clearance;
+        this.nearestWalkable = nearestWalkable;
+        this.component = component;
+        this.componentCount = componentCount;
+        this.largestComponent = largestComponent;
+        this.landmarkTiles = landmarkTiles;
+        this.landmarkTables = landmarkTables;
+        this.clusterNodeTile = clusterNodeTile;
+        this.clusterEdgeStart = clusterEdgeStart;
+        this.clusterEdgeTarget = clusterEdgeTarget;
+        this.clusterEdgeCost = clusterEdgeCost;
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.write(clearance);
+        writeInts(out, nearestWalkable);
+        writeInts(out, component);
+        out.writeInt(componentCount);
+        out.writeInt(largestComponent);
+
+        out.writeInt(landmarkTiles.length);
+        writeInts(out, landmarkTiles);
+        for (float[] table : landmarkTables) writeFloats(out, table);
+
+        out.writeInt(clusterNodeTile.length);
+        writeInts(out, clusterNodeTile);
+        writeInts(out, clusterEdgeStart);
+        out.writeInt(clusterEdgeTarget.length);
+        writeInts(out, clusterEdgeTarget);
+        writeFloats(out, clusterEdgeCost);
+    }
+
+    /** Reads tables written for the given bitmap; throws IOException when they don't fit it. */
+    static NavMeshTables read(DataInputStream in, int width, int height, BitSet blocked) throws IOException {
+        int tiles = width * height;
+
+        byte[] clearance = new byte[tiles];
+        in.readFully(clearance);
+        int[] nearestWalkable = readInts(in, tiles);
+        int[] component = readInts(in, tiles);
+        int componentCount = in.readInt();
+        int largestComponent = in.readInt();
+        if (largestComponent < 0 || largestComponent > componentCount) throw corrupt("largest region");
+        for (int i = 0; i < tiles; i++) {
+            boolean walkable = !blocked.get(i);
+            if (walkable != (clearance[i] > 0)) throw corrupt("clearance");
+            if (walkable != (component[i] > 0) || component[i] > componentCount) throw corrupt("regions");
+            if (nearestWalkable[i] < -1 || nearestWalkable[i] >= tiles) throw corrupt("nearest walkable");
+        }
+
+        int landmarkCount = in.readInt();
+        if (landmarkCount < 0 || landmarkCount > Landmarks.LANDMARK_COUNT) throw corrupt("landmark count");
+        int[] landmarkTiles = readInts(in, landmarkCount);
+        checkRange(landmarkTiles, tiles, "landmark tile");
+        float[][] landmarkTables = new float[landmarkCount][];
+        for (int l = 0; l < landmarkCount; l++) landmarkTables[l] = readFloats(in, tiles);
+
+        int nodeCount = in.readInt();
+        if (nodeCount < 0 || nodeCount > tiles) throw corrupt("cluster node count");
+        int[] nodeTile = readInts(in, nodeCount);
+        checkRange(nodeTile, tiles, "cluster node tile");
+        int[] edgeStart = readInts(in, nodeCount + 1);
+        int edgeCount = in.readInt();
+        if (edgeCount < 0 || edgeStart[0] != 0 || edgeStart[nodeCount] != edgeCount) throw corrupt("cluster edges");
+        for (int n = 0; n < nodeCount; n++) {
+            if (edgeStart[n] > edgeStart[n + 1]) throw corrupt("cluster edges");
+        }
+        int[] edgeTarget = readInts(in, edgeCount);
+        checkRange(edgeTarget, nodeCount, "cluster edge target");
+        float[] edgeCost = readFloats(in, edgeCount);
+
+        return new NavMeshTables(clearance, nearestWalkable, component, componentCount, largestComponent,
+            landmarkTiles, landmarkTables, nodeTile, edgeStart, edgeTarget, edgeCost);
+    }
+
+    private static void checkRange(int[] values, int bound, String what) throws IOException {
+        for (int value : values) {
+            if (value < 0 || value >= bound) throw corrupt(what);
+        }
+    }
+
+    private static IOException corrupt(String what) {
+        return new IOException("bad " + what + " table");
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) out.writeInt(value);
+    }
+
+    private static void writeFloats(DataOutputStream out, float[] values) throws IOException {
+        for (float value : values) out.writeFloat(value);
+    }
+
+    // Bulk reads: same big-endian layout DataOutputStream writes, without a call per value
+    private static int[] readInts(DataInputStream in, int count) throws IOException {
+        int[] values = new int[count];
+        ByteBuffer.wrap(readBytes(in, count * 4)).asIntBuffer().get(values);
+        return values;
+    }
+
+    private static float[] readFloats(DataInputStream in, int count) throws IOException {
+        float[] values = new float[count];
+        ByteBuffer.wrap(readBytes(in, count * 4)).asFloatBuffer().get(values);
+        return values;
+    }
+
+    private static byte[] readBytes(DataInputStream in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,38 @@
+package capstone.main.Pathfinding;
+
+import java.util.List;
+
+/**
+ * A grid search backend that PathfindingCache can delegate to.
+ */
+public interface PathEngine {
+
+    /**
+     * Writes a path from start toward target into out, clearing it first. Normally that is the
+     * whole path (both ends inclusive); an engine that refines lazily may stop at a prefix and
+     * report it through {@link #isLastPathPartial()}. The caller asks again from where the
+     * prefix ends.
+     *
+     * @return false when no path exists (out is left empty)
+     */
+    boolean findPath(NavMesh navMesh, NavNode start, NavNode target, List<NavNode> out);
+
+    /**
+     * Like findPath, but only through tiles an agent of the given radius fits on
+     * (see {@link NavMesh#clearanceFor(float)}). Start and target are snapped to the nearest
+     * tile with enough clearance. Engines without clearance support ignore the radius.
+     */
+    default boolean findPath(NavMesh navMesh, NavNode start, NavNode target, float agentRadius, List<NavNode> out) {
+        return findPath(navMesh, start, target, out);
+    }
+
+    /** True when the last path found stops short of the target (see findPath). */
+    default boolean isLastPathPartial() {
+        return false;
+    }
+
+    /** Nodes expanded by the last query, or -1 if the engine doesn't track it. */
+    default int getLastExpandedCount() {
+        return -1;
+    }
+}
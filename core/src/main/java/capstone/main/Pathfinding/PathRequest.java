@@ -0,0 +1,79 @@
+package capstone.main.Pathfinding;
+
+import java.util.List;
+
+/**
+ * Handle for one asynchronous path search submitted to PathRequestService.
+ * The requester keeps following its old path and polls isReady() each frame;
+ * results only become visible at the service's safe point on the render thread.
+ */
+public final class PathRequest implements Comparable<PathRequest> {
+    final NavMesh navMesh;
+    final NavNode start;
+    final NavNode target;
+    final float agentRadius;
+    final int clearance;          // NavMesh.clearanceFor(agentRadius), part of the cache key
+    final int costVersion;        // hazard costs the search was asked against
+    final double priority;        // lower runs first
+    final long sequence;          // FIFO among equal priorities
+    final IncrementalPlanner planner; // the requester's planner, lent to the worker; null for engine searches
+
+    // Written by the worker, published to the render thread through the finished queue
+    TilePath workerResult;
+    int workerExpanded;
+
+    private volatile boolean cancelled = false;
+    private boolean ready = false;
+    private TilePath result;
+
+    PathRequest(NavMesh navMesh, NavNode start, NavNode target, float agentRadius, IncrementalPlanner planner,
+                double priority, long sequence) {
+        this.navMesh = navMesh;
+        this.start = start;
+        this.target = target;
+        this.agentRadius = agentRadius;
+        this.clearance = NavMesh.clearanceFor(agentRadius);
+        this.costVersion = navMesh.getCostVersion();
+        this.priority = priority;
+        this.sequence = sequence;
+        this.planner = planner;
+    }
+
+    @Override
+    public int compareTo(PathRequest other) {
+        int byPriority = Double.compare(priority, other.priority);
+        return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+    }
+
+    void deliver(TilePath path) {
+        result = path;
+        ready = true;
+    }
+
+    /** True once the result has been handed back (render thread only). */
+    public boolean isReady() { return ready; }
+
+    /**
+     * The path from start to target, empty when unreachable, or null if the request
+     * went stale (the mesh changed while it was queued) and should be resubmitted.
+     * A hierarchical engine may return only the first leg; see {@link TilePath#isPartial()}.
+     */
+    public List<NavNode> getResult() { return result; }
+
+    public NavNode getStart() { return start; }
+    public NavNode getTarget() { return target; }
+    public IncrementalPlanner getPlanner() { return planner; }
+
+    /**
+     * True while a worker may still be using the requester's planner; the requester must
+     * not touch it until the request is ready (or hand it over by cancelling).
+     */
+    public boolean holdsPlanner() { return planner != null && !ready; }
+
+    /**
+     * Drops the request; a worker that has not started it yet will skip the search.
+     * A planner the request still holds goes back to the pool once the worker is done with it.
+     */
+    public void cancel() { cancelled = true; }
+    public boolean isCancelled() { return cancelled; }
+}
@@ -0,0 +1,309 @@
+package capstone.main.Pathfinding;
+
+import com.badlogic.gdx.Gdx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Runs path searches on a small worker pool instead of inside EnemyLogic.update.
+ * Each worker owns its own engine instance and scratch list (thread-confined search
+ * context), since the engines keep per-query arrays and are not thread-safe.
+ * Incremental chasers lend their IncrementalPlanner with the request instead; only the
+ * worker touches it until the result is handed back.
+ * Finished requests wait in a queue until update() runs at a safe point in the frame,
+ * so enemies never see a path change mid-update.
+ *
+ * Work is time-sliced: all workers draw node expansions from one per-frame budget.
+ * A search that runs out pauses (keeping its open list) and resumes when beginFrame()
+ * refills the budget next frame. Queued requests are ordered by distance to the player
+ * and by how long the enemy has gone without a path.
+ *
+ * Workers only read the NavMesh. Walkability is fixed for a mesh's lifetime; results
+ * through regions whose hazard costs changed while they were searched are dropped and
+ * the requester resubmits.
+ */
+public class PathRequestService {
+    private static final int WORKER_COUNT = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1));
+
+    public static final int DEFAULT_EXPANSION_BUDGET = 2000; // node expansions per frame, all workers
+    private static final int SLICE_EXPANSIONS = 256;         // expansions taken from the budget at a time
+
+    // One second without a path weighs as much as being this many tiles closer
+    private static final double STALENESS_WEIGHT = 4.0;
+    private static final long EPOCH = System.nanoTime();
+
+    private static Thread[] workers; // started on first submit
+    private static final PriorityBlockingQueue<PathRequest> queue = new PriorityBlockingQueue<>();
+    private static final ConcurrentLinkedQueue<PathRequest> finished = new ConcurrentLinkedQueue<>();
+    private static final ExpansionBudget budget = new ExpansionBudget(DEFAULT_EXPANSION_BUDGET);
+
+    private static volatile Supplier<PathEngine> engineFactory = ArrayAStar::new;
+    private static volatile int engineFactoryVersion = 0;
+
+    // Stats (render thread)
+    private static long sequence = 0;
+    private static long submitted = 0;
+    private static long cacheHits = 0;
+    private static long delivered = 0;
+    private static long dropped = 0;
+    private static long expandedNodes = 0;
+    private static long unreachable = 0;
+
+    private static final class SearchContext {
+        private PathEngine engine;
+        private int version = -1;
+        private final List<NavNode> scratch = new ArrayList<>();
+
+        PathEngine engine() {
+            int current = engineFactoryVersion;
+            if (engine == null || version != current) {
+                engine = engineFactory.get();
+                version = current;
+            }
+            return engine;
+        }
+    }
+
+    /**
+     * Queues a search from start to target. Cache hits come back already ready;
+     * otherwise the request is ready after a later update().
+     *
+     * @param agentRadius       body radius; large agents only get paths they fit through
+     * @param distanceToPlayer  closer enemies are searched first
+     * @param timeSinceLastPath seconds the enemy has gone without a new path; raises priority
+     */
+    public static PathRequest submit(NavMesh navMesh, NavNode start, NavNode target, float agentRadius,
+                                     float distanceToPlayer, float timeSinceLastPath) {
+        return submit(navMesh, start, target, agentRadius, null, distanceToPlayer, timeSinceLastPath);
+    }
+
+    /**
+     * Queues a repair (or replan) of the chaser's incremental search toward the target, for
+     * point agents. The planner belongs to the request until it is ready; see
+     * {@link PathRequest#holdsPlanner()}.
+     */
+    public static PathRequest submit(NavMesh navMesh, NavNode start, NavNode target, IncrementalPlanner planner,
+                                     float distanceToPlayer, float timeSinceLastPath) {
+        return submit(navMesh, start, target, 0f, planner, distanceToPlayer, timeSinceLastPath);
+    }
+
+    private static PathRequest submit(NavMesh navMesh, NavNode start, NavNode target, float agentRadius,
+                                      IncrementalPlanner planner, float distanceToPlayer, float timeSinceLastPath) {
+        // Ordering by (distance + weight * time of last path) ages every queued request at the same
+        // rate, so priorities never need recomputing while they wait
+        double now = (System.nanoTime() - EPOCH) / 1e9;
+        double priority = distanceToPlayer + STALENESS_WEIGHT * (now - timeSinceLastPath);
+        PathRequest request = new PathRequest(navMesh, start, target, agentRadius, planner, priority, sequence++);
+        submitted++;
+
+        if (request.clearance <= 1 && !navMesh.isReachable(start, target)) {
+            // Target is in another region: answer now instead of queueing a search that must fail
+            unreachable++;
+            request.deliver(TilePath.EMPTY);
+            return request;
+        }
+
+        TilePath cached = PathfindingCache.peek(navMesh, start, target, request.clearance);
+        if (cached != null) {
+            cacheHits++;
+            request.deliver(cached);
+            return request;
+        }
+
+        if (workers == null) {
+            workers = new Thread[WORKER_COUNT];
+            for (int i = 0; i < WORKER_COUNT; i++) {
+                workers[i] = new Thread(PathRequestService::workerLoop, "path-worker-" + (i + 1));
+                workers[i].setDaemon(true);
+                workers[i].start();
+            }
+        }
+        queue.add(request);
+        return request;
+    }
+
+    // Worker thread
+    private static void workerLoop() {
+        SearchContext context = new SearchContext();
+        try {
+            while (true) {
+                search(queue.take(), context);
+            }
+        } catch (InterruptedException e) {
+            // shutdown
+        }
+    }
+
+    private static void search(PathRequest request, SearchContext context) throws InterruptedException {
+        boolean interrupted = true; // until the search gets past every budget wait
+        try {
+            int expanded = 0;
+            boolean partial = false;
+            PathEngine engine = request.planner == null ? context.engine() : null;
+            if (request.planner != null) {
+                // Incremental repair: resumable too, so it is sliced against the budget like the grid engines
+                IncrementalPlanner planner = request.planner;
+                int status = request.isCancelled() ? GridSearch.FAILED
+                    : planner.begin(request.navMesh, request.start, request.target);
+                while (status == GridSearch.SEARCHING && !request.isCancelled()) {
+                    int granted = budget.acquire(SLICE_EXPANSIONS);
+                    int before = planner.getLastTouched();
+                    status = planner.step(granted);
+                    budget.settle(granted, planner.getLastTouched() - before);
+                }
+                planner.buildPath(context.scratch);
+                expanded = planner.getLastTouched();
+            } else if (engine instanceof GridSearch) {
+                // Resumable: expand in slices, pausing whenever the frame's budget is spent
+                GridSearch grid = (GridSearch) engine;
+                int status = grid.begin(request.navMesh, request.start, request.target, request.agentRadius);
+                while (status == GridSearch.SEARCHING && !request.isCancelled()) {
+                    int granted = budget.acquire(SLICE_EXPANSIONS);
+                    int before = grid.getLastExpandedCount();
+                    status = grid.step(granted);
+                    budget.settle(granted, grid.getLastExpandedCount() - before);
+                }
+                grid.buildPath(context.scratch);
+                grid.finish();
+                expanded = grid.getLastExpandedCount();
+            } else if (!request.isCancelled()) {
+                // Can't pause: run it whole and charge the overdraft to the next frame
+                int granted = budget.acquire(SLICE_EXPANSIONS);
+                engine.findPath(request.navMesh, request.start, request.target, request.agentRadius, context.scratch);
+                expanded = Math.max(0, engine.getLastExpandedCount());
+                partial = engine.isLastPathPartial();
+                budget.settle(granted, expanded);
+            }
+            PathSmoother.smooth(request.navMesh, context.scratch, request.agentRadius);
+            request.workerResult = new TilePath(request.navMesh, context.scratch, partial);
+            request.workerExpanded = expanded;
+            interrupted = false;
+        } catch (RuntimeException e) {
+            // Never expected; drop the request instead of losing the worker
+            request.workerResult = null;
+            interrupted = false;
+        } finally {
+            context.scratch.clear();
+            if (interrupted || request.isCancelled()) {
+                // Nobody will collect it: return the planner here, or the pool loses it for good
+                IncrementalPlanner.release(request.planner);
+            } else {
+                finished.add(request);
+            }
+        }
+    }
+
+    /**
+     * Call once per rendered frame on the render thread: refills the expansion budget.
+     * Not per simulation tick, or a frame that runs several ticks would get several budgets.
+     */
+    public static void beginFrame() {
+        budget.refill();
+    }
+
+    /**
+     * Call on the render thread before enemies update (every simulation tick): hands
+     * finished paths back to their requesters.
+     */
+    public static void update() {
+        PathRequest request;
+        while ((request = finished.poll()) != null) {
+            if (request.isCancelled()) {
+                IncrementalPlanner.release(request.planner);
+                continue;
+            }
+
+            if (request.workerResult == null || crossesChangedCosts(request)) {
+                dropped++;
+                request.deliver(null);
+                continue;
+            }
+            expandedNodes += request.workerExpanded;
+            PathfindingCache.put(request.navMesh, request.start, request.target, request.clearance, request.workerResult);
+            request.deliver(request.workerResult);
+            delivered++;
+        }
+    }
+
+    // Hazards stamped or removed since submit, in regions the result passes through
+    private static boolean crossesChangedCosts(PathRequest request) {
+        NavMesh navMesh = request.navMesh;
+        if (navMesh.getCostVersion() == request.costVersion) return false;
+        return (request.workerResult.getRegionMask() & navMesh.getCostRegionsChangedSince(request.costVersion)) != 0;
+    }
+
+    /**
+     * Engine used by worker contexts; each worker builds its own instance lazily. Called on
+     * every map load, so it also logs and resets the request and cache stats.
+     */
+    public static void setEngineFactory(Supplier<PathEngine> factory) {
+        if (factory == null) return;
+        if (delivered > 0) {
+            Gdx.app.log("PathRequestService", submitted + " requests, " + cacheHits + " cache hits, "
+                + delivered + " searched (avg expanded=" + (expandedNodes / delivered) + "), " + unreachable + " unreachable, " + dropped + " dropped, "
+                + budget.getWaitCount() + " budget pauses");
+        }
+        PathfindingCache.logStats();
+        engineFactory = factory;
+        engineFactoryVersion++;
+        submitted = 0;
+        cacheHits = 0;
+        delivered = 0;
+        dropped = 0;
+        expandedNodes = 0;
+        unreachable = 0;
+    }
+
+    public static void setExpansionBudget(int expansionsPerFrame) { budget.setPerFrame(expansionsPerFrame); }
+    public static int getExpansionBudget() { return budget.getPerFrame(); }
+    /** Node expansions the workers spent during the previous frame. */
+    public static int getExpansionsLastFrame() { return budget.getUsedLastFrame(); }
+    /** Requests waiting for a worker (not counting searches paused mid-way). */
+    public static int getQueueDepth() { return queue.size(); }
+    /** Times a search paused for lack of budget and resumed on a later frame. */
+    public static long getBudgetPauseCount() { return budget.getWaitCount(); }
+
+    public static long getSubmittedCount() { return submitted; }
+    public static long getDeliveredCount() { return delivered; }
+    public static long getDroppedCount() { return dropped; }
+
+    /**
+     * Stops the workers and returns every lent planner to the pool. Waits for the workers
+     * to exit first, so a search that was mid-slice can't add a stale result to the
+     * finished queue after it has been drained.
+     */
+    public static void shutdown() {
+        if (workers != null) {
+            for (Thread worker : workers) worker.interrupt();
+            for (Thread worker : workers) joinQuietly(worker);
+            workers = null;
+        }
+        releasePlanners(queue);
+        releasePlanners(finished);
+    }
+
+    // A worker stops at its next budget wait or queue take; at most one slice away
+    private static void joinQuietly(Thread worker) {
+        boolean interrupted = false;
+        while (worker.isAlive()) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private static void releasePlanners(Queue<PathRequest> requests) {
+        PathRequest request;
+        while ((request = requests.poll()) != null) {
+            IncrementalPlanner.release(request.planner);
+        }
+    }
+}
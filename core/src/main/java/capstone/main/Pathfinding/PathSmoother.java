@@ -0,0 +1,77 @@
+package capstone.main.Pathfinding;
+
+import java.util.List;
+
+/**
+ * String pulling for tile paths: drops every waypoint the agent can skip by walking a
+ * straight line from the last kept waypoint. Lines are checked with a supercover walk
+ * over the NavMesh (every tile the segment between tile centres touches must be one the
+ * agent fits on), so the result never crosses a wall the tile path went around.
+ * Stateless and safe to call from the path workers.
+ */
+public final class PathSmoother {
+
+    private PathSmoother() {}
+
+    /** Smooths the path in place; the first and last nodes are always kept. */
+    public static void smooth(NavMesh navMesh, List<NavNode> path, float agentRadius) {
+        int n = path.size();
+        if (navMesh == null || n < 3) return;
+
+        int required = NavMesh.clearanceFor(agentRadius);
+        int write = 1; // path[0] stays
+        NavNode anchor = path.get(0);
+        for (int i = 2; i < n; i++) {
+            if (!hasLineOfSight(navMesh, anchor, path.get(i), required)) {
+                // Can't see past i-1 from the anchor: keep it and continue from there
+                anchor = path.get(i - 1);
+                path.set(write++, anchor);
+            }
+        }
+        path.set(write++, path.get(n - 1));
+        path.subList(write, n).clear();
+    }
+
+    /** True when the straight segment between the two tile centres stays on walkable tiles. */
+    public static boolean hasLineOfSight(NavMesh navMesh, NavNode from, NavNode to, float agentRadius) {
+        return hasLineOfSight(navMesh, from, to, NavMesh.clearanceFor(agentRadius));
+    }
+
+    private static boolean hasLineOfSight(NavMesh navMesh, NavNode from, NavNode to, int required) {
+        int x = from.x;
+        int y = from.y;
+        int nx = Math.abs(to.x - x);
+        int ny = Math.abs(to.y - y);
+        int sx = Integer.signum(to.x - x);
+        int sy = Integer.signum(to.y - y);
+
+        if (!fits(navMesh, x, y, required)) return false;
+        for (int ix = 0, iy = 0; ix < nx || iy < ny; ) {
+            // Compares where the segment crosses the next vertical vs horizontal tile edge
+            int decision = (1 + 2 * ix) * ny - (1 + 2 * iy) * nx;
+            if (decision == 0) {
+                // Exactly through a corner: both side tiles must be clear, no squeezing past walls
+                if (!fits(navMesh, x + sx, y, required) || !fits(navMesh, x, y + sy, required)) return false;
+                x += sx;
+                y += sy;
+                ix++;
+                iy++;
+            } else if (decision < 0) {
+                x += sx;
+                ix++;
+            } else {
+                y += sy;
+                iy++;
+            }
+            if (!fits(navMesh, x, y, required)) return false;
+        }
+        return true;
+    }
+
+    // Shortcuts also stay off hazard tiles, which the tile path may have gone around
+    private static boolean fits(NavMesh navMesh, int x, int y, int required) {
+        if (!navMesh.isWalkable(x, y)) return false;
+        int index = navMesh.indexOf(x, y);
+        return (required <= 1 || navMesh.getClearance(index) >= required) && navMesh.getTileCost(index) == 0f;
+    }
+}
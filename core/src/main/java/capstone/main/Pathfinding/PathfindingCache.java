@@ -1,68 +1,178 @@
 package capstone.main.Pathfinding;
 
-import java.util.*;
+import com.badlogic.gdx.Gdx;
+
+import java.util.Arrays;
 
 /**
  * Memory-efficient pathfinding cache for enemies
  * Prevents recalculating the same paths repeatedly
+ *
+ * Keys are (start tile, goal tile, agent clearance) packed into a long, looked up through a small
+ * open-addressed index. Entries live in a fixed ring evicted with CLOCK, so the cache
+ * never grows past MAX_CACHE_SIZE. Paths are string-pulled, then stored as shared immutable TilePaths. Everything is
+ * dropped when the NavMesh generation changes (a new map); hazard cost changes only drop the
+ * paths that cross a changed region.
  */
 public class PathfindingCache {
-    private static final Map<String, CachedPath> pathCache = new HashMap<>();
-    private static final long CACHE_DURATION = 2000; // 2 seconds in milliseconds
-    private static final int MAX_CACHE_SIZE = 100;
+    private static final int MAX_CACHE_SIZE = 256;
+    private static final int TABLE_BITS = 9; // index twice the ring size keeps probes short
+    private static final int TABLE_MASK = (1 << TABLE_BITS) - 1;
 
-    private static class CachedPath {
-        final List<NavNode> path;
-        final long timestamp;
+    // CLOCK ring: entry slot -> key, path, reference bit
+    private static final long[] entryKeys = new long[MAX_CACHE_SIZE];
+    private static final TilePath[] entryPaths = new TilePath[MAX_CACHE_SIZE];
+    private static final boolean[] referenced = new boolean[MAX_CACHE_SIZE];
+    private static int entryCount = 0;
+    private static int clockHand = 0;
+    // Ring slots emptied by cost invalidation, reused before CLOCK evicts anything
+    private static final int[] freeSlots = new int[MAX_CACHE_SIZE];
+    private static int freeCount = 0;
 
-        CachedPath(List<NavNode> path) {
-            this.path = new ArrayList<>(path);
-            this.timestamp = System.currentTimeMillis();
-        }
+    // Open-addressed index (linear probing): table slot -> entry slot + 1, 0 when empty
+    private static final int[] table = new int[1 << TABLE_BITS];
+
+    // What the cached paths were built against
+    private static int meshGeneration = -1;
+    private static int meshCostVersion = -1;
 
-        boolean isValid() {
-            return System.currentTimeMillis() - timestamp < CACHE_DURATION;
+    // Stats since the last logStats() (render thread)
+    private static long hits = 0;
+    private static long misses = 0;
+    private static long evictions = 0;
+    private static long costInvalidations = 0;
+
+    /** Cached path for the pair, or null on a miss (counts as a hit or miss). */
+    static TilePath peek(NavMesh navMesh, NavNode start, NavNode target, int clearance) {
+        validate(navMesh);
+        int entry = find(keyOf(navMesh, start, target, clearance));
+        if (entry >= 0) {
+            referenced[entry] = true;
+            hits++;
+            return entryPaths[entry];
         }
+        misses++;
+        return null;
     }
 
-    public static List<NavNode> getCachedPath(NavMesh navMesh, NavNode start, NavNode target) {
-        if (start == null || target == null) return Collections.emptyList();
+    /** Stores a path searched elsewhere (e.g. by PathRequestService workers). Partial paths aren't kept. */
+    static void put(NavMesh navMesh, NavNode start, NavNode target, int clearance, TilePath path) {
+        // A prefix under the full key would be handed out as the whole path
+        if (path.isPartial()) return;
+        validate(navMesh);
+        long key = keyOf(navMesh, start, target, clearance);
+        if (find(key) < 0) insert(key, path);
+    }
 
-        // Create cache key
-        String key = start.x + "," + start.y + "->" + target.x + "," + target.y;
+    private static void validate(NavMesh navMesh) {
+        if (navMesh.getGeneration() != meshGeneration) {
+            clearCache();
+            meshGeneration = navMesh.getGeneration();
+            meshCostVersion = navMesh.getCostVersion();
+        } else if (navMesh.getCostVersion() != meshCostVersion) {
+            invalidateRegions(navMesh.getCostRegionsChangedSince(meshCostVersion));
+            meshCostVersion = navMesh.getCostVersion();
+        }
+    }
 
-        // Check if we have a valid cached path
-        CachedPath cached = pathCache.get(key);
-        if (cached != null && cached.isValid()) {
-            return new ArrayList<>(cached.path);
+    // Drops only the paths crossing regions whose hazard costs changed
+    private static void invalidateRegions(long changedRegions) {
+        for (int entry = 0; entry < entryCount; entry++) {
+            TilePath path = entryPaths[entry];
+            if (path == null || (path.getRegionMask() & changedRegions) == 0) continue;
+            unindex(entryKeys[entry]);
+            entryPaths[entry] = null;
+            referenced[entry] = false;
+            freeSlots[freeCount++] = entry;
+            costInvalidations++;
         }
+    }
 
-        // Calculate new path
-        List<NavNode> newPath = AStar.findPath(navMesh, start, target);
+    // start tile << 32 | goal tile, with the required clearance in the top byte (maps stay well under 2^24 tiles)
+    private static long keyOf(NavMesh navMesh, NavNode start, NavNode target, int clearance) {
+        long key = ((long) navMesh.indexOf(start.x, start.y) << 32) | (navMesh.indexOf(target.x, target.y) & 0xffffffffL);
+        return key | ((long) clearance << 56);
+    }
+
+    private static int hash(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> (64 - TABLE_BITS));
+    }
 
-        // Cache the result (if cache isn't full)
-        if (pathCache.size() < MAX_CACHE_SIZE) {
-            pathCache.put(key, new CachedPath(newPath));
+    private static int find(long key) {
+        for (int slot = hash(key); table[slot] != 0; slot = (slot + 1) & TABLE_MASK) {
+            int entry = table[slot] - 1;
+            if (entryKeys[entry] == key) return entry;
+        }
+        return -1;
+    }
+
+    private static void insert(long key, TilePath path) {
+        int entry;
+        if (freeCount > 0) {
+            entry = freeSlots[--freeCount];
+        } else if (entryCount < MAX_CACHE_SIZE) {
+            entry = entryCount++;
         } else {
-            // Clean up old entries
-            cleanupCache();
-            pathCache.put(key, new CachedPath(newPath));
+            // CLOCK: skip (and clear) recently used entries, evict the first cold one
+            while (referenced[clockHand]) {
+                referenced[clockHand] = false;
+                clockHand = (clockHand + 1) % MAX_CACHE_SIZE;
+            }
+            entry = clockHand;
+            clockHand = (clockHand + 1) % MAX_CACHE_SIZE;
+            unindex(entryKeys[entry]);
+            evictions++;
         }
 
-        return newPath;
+        entryKeys[entry] = key;
+        entryPaths[entry] = path;
+        referenced[entry] = false;
+
+        int slot = hash(key);
+        while (table[slot] != 0) slot = (slot + 1) & TABLE_MASK;
+        table[slot] = entry + 1;
     }
 
-    private static void cleanupCache() {
-        Iterator<Map.Entry<String, CachedPath>> iterator = pathCache.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<String, CachedPath> entry = iterator.next();
-            if (!entry.getValue().isValid()) {
-                iterator.remove();
+    // Removes a key from the index, shifting later probes back so lookups never hit a gap
+    private static void unindex(long key) {
+        int hole = hash(key);
+        while (entryKeys[table[hole] - 1] != key) hole = (hole + 1) & TABLE_MASK;
+
+        for (int next = (hole + 1) & TABLE_MASK; table[next] != 0; next = (next + 1) & TABLE_MASK) {
+            int home = hash(entryKeys[table[next] - 1]);
+            // Movable if the hole lies between its home slot and where it sits now
+            if (((next - home) & TABLE_MASK) >= ((next - hole) & TABLE_MASK)) {
+                table[hole] = table[next];
+                hole = next;
             }
         }
+        table[hole] = 0;
     }
 
+    /** Logs the lookups since the last call, if there were any, and starts counting afresh. */
+    static void logStats() {
+        if (hits + misses > 0) {
+            Gdx.app.log("PathfindingCache", "hits=" + hits + " misses=" + misses + " evictions=" + evictions
+                + " cost invalidations=" + costInvalidations);
+        }
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        costInvalidations = 0;
+    }
+
+    public static long getHitCount() { return hits; }
+    public static long getMissCount() { return misses; }
+    public static long getEvictionCount() { return evictions; }
+    public static long getCostInvalidationCount() { return costInvalidations; }
+    public static int size() { return entryCount - freeCount; }
+
     public static void clearCache() {
-        pathCache.clear();
+        Arrays.fill(table, 0);
+        Arrays.fill(entryPaths, null);
+        Arrays.fill(referenced, false);
+        entryCount = 0;
+        freeCount = 0;
+        clockHand = 0;
     }
 }
@@ -0,0 +1,60 @@
+package capstone.main.Pathfinding;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable path stored as flat NavMesh tile indices (x * height + y).
+ * PathfindingCache hands the same instance to every enemy asking for the same
+ * start/goal pair, so hits never copy; nodes are resolved on get().
+ */
+public final class TilePath extends AbstractList<NavNode> implements RandomAccess {
+    /** "No path" answer that needs no mesh. */
+    static final TilePath EMPTY = new TilePath(null, Collections.<NavNode>emptyList());
+
+    private final NavMesh navMesh;
+    private final int[] tiles;
+    private final long regionMask; // cost regions the path crosses (NavMesh.regionMask)
+    private final boolean partial;
+
+    TilePath(NavMesh navMesh, List<NavNode> nodes) {
+        this(navMesh, nodes, false);
+    }
+
+    TilePath(NavMesh navMesh, List<NavNode> nodes, boolean partial) {
+        this.navMesh = navMesh;
+        this.partial = partial;
+        this.regionMask = navMesh != null ? navMesh.regionMask(nodes) : 0L;
+        this.tiles = new int[nodes.size()];
+        for (int i = 0; i < tiles.length; i++) {
+            NavNode node = nodes.get(i);
+            tiles[i] = navMesh.indexOf(node.x, node.y);
+        }
+    }
+
+    @Override
+    public NavNode get(int i) {
+        return navMesh.getNodeByIndex(tiles[i]);
+    }
+
+    @Override
+    public int size() {
+        return tiles.length;
+    }
+
+    /** True for a prefix that stops short of the target (PathEngine.isLastPathPartial). */
+    public boolean isPartial() {
+        return partial;
+    }
+
+    long getRegionMask() {
+        return regionMask;
+    }
+
+    /** Tile index of the i-th step, without resolving the node. */
+    public int tileAt(int i) {
+        return tiles[i];
+    }
+}
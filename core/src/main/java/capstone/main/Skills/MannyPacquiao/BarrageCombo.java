@@ -2,6 +2,7 @@ package capstone.main.Skills.MannyPacquiao;
 
 import capstone.main.Characters.AbstractPlayer;
 import capstone.main.Enemies.AbstractEnemy;
+import capstone.main.Enemies.EnemySpatialHash;
 import capstone.main.Managers.SoundManager;
 import capstone.main.Skills.Skill;
 import capstone.main.Sprites.DamageNumber;
@@ -22,6 +23,7 @@ public class BarrageCombo extends Skill {
     private ArrayList<AbstractEnemy> enemies;
     private ArrayList<DamageNumber> damageNumbers;
     private BitmapFont damageFont;
+    private final AbstractEnemy[] candidates = new AbstractEnemy[32];
 
     private int hitsRemaining;
     private float hitTimer;
@@ -80,8 +82,10 @@ public class BarrageCombo extends Skill {
         float length = RANGE;
         float halfWidth = 0.45f;
         int hitsNow = 0;
-        for (AbstractEnemy enemy : enemies) {
-            if (enemy.isDead()) continue;
+        int candidateCount = EnemySpatialHash.shared().queryCapsule(playerPos.x, playerPos.y,
+            playerPos.x + dir.x * length, playerPos.y + dir.y * length, halfWidth, candidates);
+        for (int c = 0; c < candidateCount; c++) {
+            AbstractEnemy enemy = candidates[c];
             com.badlogic.gdx.math.Vector2 p = enemy.getBody().getPosition();
             com.badlogic.gdx.math.Vector2 toP = new com.badlogic.gdx.math.Vector2(p).sub(playerPos);
             float proj = toP.dot(dir);
@@ -2,7 +2,9 @@ package capstone.main.Skills.MannyPacquiao;
 
 import capstone.main.Characters.AbstractPlayer;
 import capstone.main.Enemies.AbstractEnemy;
+import capstone.main.Enemies.EnemySpatialHash;
 import capstone.main.Managers.SoundManager;
+import capstone.main.Managers.WallRegistry;
 import capstone.main.Skills.Skill;
 import capstone.main.Sprites.DamageNumber;
 import com.badlogic.gdx.graphics.Color;
@@ -25,6 +27,7 @@ public class ChampionsKnockout extends Skill {
     private final ArrayList<AbstractEnemy> enemies;
     private final ArrayList<DamageNumber> damageNumbers;
     private final BitmapFont damageFont;
+    private final AbstractEnemy[] candidates = new AbstractEnemy[32];
 
     public ChampionsKnockout(AbstractPlayer player, ArrayList<AbstractEnemy> enemies,
                              ArrayList<DamageNumber> damageNumbers, BitmapFont damageFont) {
@@ -49,10 +52,11 @@ public class ChampionsKnockout extends Skill {
         int hits = 0;
         AbstractEnemy primary = null;
         float bestProj = -1f;
-        java.util.List<com.badlogic.gdx.math.Rectangle> walls = capstone.main.Managers.WallRegistry.getWalls();
 
-        for (AbstractEnemy enemy : enemies) {
-            if (enemy.isDead()) continue;
+        int candidateCount = EnemySpatialHash.shared().queryCapsule(playerPos.x, playerPos.y,
+            playerPos.x + dir.x * length, playerPos.y + dir.y * length, halfWidth, candidates);
+        for (int c = 0; c < candidateCount; c++) {
+            AbstractEnemy enemy = candidates[c];
             Vector2 p = enemy.getBody().getPosition();
             Vector2 toP = new Vector2(p).sub(playerPos);
             float proj = toP.dot(dir);
@@ -61,16 +65,7 @@ public class ChampionsKnockout extends Skill {
             if (perp > halfWidth) continue;
 
             // Blocked by wall? Skip target if any wall intersects segment
-            boolean blocked = false;
-            if (walls != null) {
-                for (com.badlogic.gdx.math.Rectangle r : walls) {
-                    if (com.badlogic.gdx.math.Intersector.intersectSegmentRectangle(playerPos, p, r)) {
-                        blocked = true;
-                        break;
-                    }
-                }
-            }
-            if (blocked) continue;
+            if (WallRegistry.isBlocked(playerPos.x, playerPos.y, p.x, p.y)) continue;
 
             float enemyMaxHP = enemy.getMaxHealth();
             float percentDamage = enemyMaxHP * HP_PERCENT;
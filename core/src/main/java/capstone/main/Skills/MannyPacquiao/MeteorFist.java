@@ -2,7 +2,9 @@ package capstone.main.Skills.MannyPacquiao;
 
 import capstone.main.Characters.AbstractPlayer;
 import capstone.main.Enemies.AbstractEnemy;
+import capstone.main.Enemies.EnemySpatialHash;
 import capstone.main.Managers.SoundManager;
+import capstone.main.Managers.WallRegistry;
 import capstone.main.Skills.Skill;
 import capstone.main.Sprites.DamageNumber;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -20,6 +22,7 @@ public class MeteorFist extends Skill {
     private final ArrayList<AbstractEnemy> enemies;
     private final ArrayList<DamageNumber> damageNumbers;
     private final BitmapFont damageFont;
+    private final AbstractEnemy[] candidates = new AbstractEnemy[32];
 
     public MeteorFist(AbstractPlayer player, ArrayList<AbstractEnemy> enemies,
                       ArrayList<DamageNumber> damageNumbers, BitmapFont damageFont) {
@@ -44,9 +47,10 @@ public class MeteorFist extends Skill {
         float halfWidth = 0.5f;
         int hits = 0;
         float totalDamage = 0f;
-        java.util.List<com.badlogic.gdx.math.Rectangle> walls = capstone.main.Managers.WallRegistry.getWalls();
-        for (AbstractEnemy enemy : enemies) {
-            if (enemy.isDead()) continue;
+        int candidateCount = EnemySpatialHash.shared().queryCapsule(playerPos.x, playerPos.y,
+            playerPos.x + dir.x * length, playerPos.y + dir.y * length, halfWidth, candidates);
+        for (int c = 0; c < candidateCount; c++) {
+            AbstractEnemy enemy = candidates[c];
             com.badlogic.gdx.math.Vector2 p = enemy.getBody().getPosition();
             com.badlogic.gdx.math.Vector2 toP = new com.badlogic.gdx.math.Vector2(p).sub(playerPos);
             float proj = toP.dot(dir);
@@ -54,13 +58,7 @@ public class MeteorFist extends Skill {
             float perp = Math.abs(toP.crs(dir)) / dir.len();
             if (perp > halfWidth) continue;
             // Blocked by wall? Skip target if any wall intersects segment
-            boolean blocked = false;
-            if (walls != null) {
-                for (com.badlogic.gdx.math.Rectangle r : walls) {
-                    if (com.badlogic.gdx.math.Intersector.intersectSegmentRectangle(playerPos, p, r)) { blocked = true; break; }
-                }
-            }
-            if (blocked) continue;
+            if (WallRegistry.isBlocked(playerPos.x, playerPos.y, p.x, p.y)) continue;
             // Calculate unique damage per enemy
             float damage = MathUtils.random(MIN_DAMAGE, MAX_DAMAGE);
             enemy.takeHit(damage);
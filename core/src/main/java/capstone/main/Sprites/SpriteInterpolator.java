@@ -0,0 +1,48 @@
+package capstone.main.Sprites;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+
+/**
+ * Smooths a body-driven sprite between fixed simulation ticks. The body position is recorded
+ * before each physics step; at draw time the sprite is shifted back toward that position by
+ * the unsimulated fraction of a tick, then shifted back after drawing so game logic keeps
+ * seeing the simulated position.
+ */
+public class SpriteInterpolator {
+    // Farther than any body moves in one tick: treat as a teleport and don't smear across it
+    private static final float MAX_TICK_DISTANCE = 2f;
+
+    private float previousX, previousY;
+    private boolean hasPrevious = false;
+    private float offsetX, offsetY;
+
+    /** Records the body position at the start of a simulation tick. */
+    public void capture(Body body) {
+        if (body == null) return;
+        Vector2 p = body.getPosition();
+        previousX = p.x;
+        previousY = p.y;
+        hasPrevious = true;
+    }
+
+    /** Shifts the sprite to where the body was alpha of the way through the last tick. */
+    public void apply(Sprite sprite, Body body, float alpha) {
+        offsetX = offsetY = 0f;
+        if (!hasPrevious || sprite == null || body == null) return;
+        Vector2 p = body.getPosition();
+        float dx = previousX - p.x;
+        float dy = previousY - p.y;
+        if (dx * dx + dy * dy > MAX_TICK_DISTANCE * MAX_TICK_DISTANCE) return;
+        offsetX = dx * (1f - alpha);
+        offsetY = dy * (1f - alpha);
+        sprite.translate(offsetX, offsetY);
+    }
+
+    /** Undoes the last apply. */
+    public void restore(Sprite sprite) {
+        if (sprite != null) sprite.translate(-offsetX, -offsetY);
+        offsetX = offsetY = 0f;
+    }
+}
@@ -1,6 +1,7 @@
 
 package capstone.main.menus;
 
+import capstone.main.Pathfinding.NavGridCache;
 import capstone.main.Pathfinding.NavMesh;
 import capstone.main.UI.HeartsHud;
 import capstone.main.UI.InventoryUI;
@@ -39,6 +40,7 @@ import java.util.ArrayList;
 public class Game implements Screen {
     // Logs player world coordinates every 0.5s to console
     private float playerPosLogTimer = 0f;
+    private float tickAccumulator = 0f; // frame time not yet simulated, always under one tick after render's loop
     private final Corrupted game;
     private final int selectedCharacterIndex;
 
@@ -189,6 +191,7 @@ public class Game implements Screen {
         // --- World Map Manager ---
         worldMapManager = new WorldMapManager();
         worldMapManager.setCurrentWorld(WorldMapManager.WorldMap.WORLD_1);
+        worldMapManager.applySolverIterations(WorldMapManager.WorldMap.WORLD_1, physicsManager);
         bossSpawnedInCurrentWorld = false;
         bossDefeatedInCurrentWorld = false;
         bossClearedToastShown = false;
@@ -217,12 +220,12 @@ public class Game implements Screen {
 
         // Set up damage number system for physics collisions (bullets/fireballs)
         physicsManager.setDamageNumberSystem(damageNumbers, damageFont);
+        publishWalls();
 
-        // MEMORY FIX: Create smaller, more efficient NavMesh
-        // Instead of using full map size, use a reasonable maximum
-        int maxNavMeshSize = 200; // Limit to 200x200 = 40k nodes max (vs potentially millions)
-        int navWidth = Math.min(maxNavMeshSize, (int) mapManager.getWorldWidth());
-        int navHeight = Math.min(maxNavMeshSize, (int) mapManager.getWorldHeight());
+        // NavMesh covers the whole map; long searches run on its cluster graph (HPA*),
+        // so query cost no longer grows with map area and the old 200-tile clamp is gone
+        int navWidth = (int) mapManager.getWorldWidth();
+        int navHeight = (int) mapManager.getWorldHeight();
 
         System.out.println("========== NAVMESH DEBUG ==========");
         System.out.println("Original Map Size: " + mapManager.getWorldWidth() + " x " + mapManager.getWorldHeight());
@@ -230,8 +233,9 @@ public class Game implements Screen {
         System.out.println("Memory estimate: ~" + ((navWidth * navHeight * 200) / 1024 / 1024) + " MB");
         System.out.println("===================================");
 
-        NavMesh navMesh = new NavMesh(navWidth, navHeight,
+        NavMesh navMesh = NavGridCache.load(navWidth, navHeight,
             CollisionLoader.getCollisionRectangles(mapManager.getTiledMap(), "collisionLayer", 1 / 32f));
+        capstone.main.Pathfinding.PathRequestService.setEngineFactory(worldMapManager.getPathEngineFactory(worldMapManager.getCurrentWorld()));
 
         // --- Create enemy spawner ---
         enemySpawner = new EnemySpawner(mapWidth, mapHeight, screenShake, physicsManager, navMesh);
@@ -427,14 +431,14 @@ public class Game implements Screen {
 
         // Initialize bullet logic for ranged characters
         if (player instanceof Ranged) {
-            bulletLogic = new BulletLogic((Ranged) player, physicsManager);
+            bulletLogic = new BulletLogic(physicsManager);
         } else {
             bulletLogic = null;
         }
 
         // Initialize Fireball logic
         if (player instanceof Quiboloy) {
-            fireballLogic = new FireballLogic((Quiboloy) player, physicsManager);
+            fireballLogic = new FireballLogic(physicsManager);
         } else {
             fireballLogic = null;
         }
@@ -445,6 +449,7 @@ public class Game implements Screen {
         // Objective system: set map-specific objective
         objectiveManager = new capstone.main.Managers.ObjectiveManager();
         enemyLogic = new EnemyLogic(enemySpawner, enemySpawner.getEnemies(), player, objectiveManager);
+        enemyLogic.setCamera(camera);
 
         // Configure objective per world
         configureObjectiveForWorld(worldMapManager.getCurrentWorld());
@@ -652,19 +657,20 @@ public class Game implements Screen {
         }
         if (!isPaused && !isGameOver) {
             inputManager.update();
-            physicsManager.step(delta);
-            playerLogic.update(delta);
 
-            if (bulletLogic != null) {
-                bulletLogic.update(delta);
-
-            }
-
-            if (fireballLogic != null) {
-                fireballLogic.update(delta);
+            // Fixed-rate simulation: run as many whole ticks as the frame time covers, up to
+            // MAX_SUBSTEPS; whatever a long stall leaves beyond that is dropped
+            float tick = SimulationConfig.tickSeconds();
+            tickAccumulator += delta;
+            capstone.main.Pathfinding.PathRequestService.beginFrame(); // path budget is per frame, not per tick
+            int ticks = 0;
+            while (tickAccumulator >= tick && ticks < SimulationConfig.MAX_SUBSTEPS) {
+                simulateTick(tick);
+                tickAccumulator -= tick;
+                ticks++;
             }
+            if (tickAccumulator >= tick) tickAccumulator %= tick;
 
-            enemyLogic.update(delta);
             screenShake.update(delta);
             entityRenderer.update(delta);
             // Decrease portal cooldown if active
@@ -766,6 +772,8 @@ public class Game implements Screen {
         }
 
         // --- World rendering ---
+        // Draw between the last two simulation ticks (camera follows the interpolated player)
+        applyInterpolatedSprites(tickAccumulator / SimulationConfig.tickSeconds());
         // Teleportation FX: black transition (cinematic fade with vignette)
         updateCamera();
         updateWeaponAiming();
@@ -777,6 +785,7 @@ public class Game implements Screen {
 
         worldRenderer.render(camera);
         entityRenderer.render(camera);
+        restoreInterpolatedSprites();
 
         // --- Render pickable items ---
         spriteBatch.begin();
@@ -822,12 +831,13 @@ public class Game implements Screen {
         }
         uiManager.actAndDraw(delta);
 
+        float tickAlpha = tickAccumulator / SimulationConfig.tickSeconds();
         if (bulletLogic != null) {
-            bulletLogic.render(spriteBatch, camera);
+            bulletLogic.render(spriteBatch, camera, tickAlpha);
         }
 
         if (fireballLogic != null) {
-            fireballLogic.render(spriteBatch, camera);
+            fireballLogic.render(spriteBatch, camera, tickAlpha);
         }
 
         // Ensure weapon uses world projection and renders after entities
@@ -952,6 +962,42 @@ public class Game implements Screen {
         weaponSprite.setPosition(playerCenterX - weaponSprite.getOriginX(), playerCenterY - weaponSprite.getOriginY());
     }
 
+    // One fixed simulation tick: physics, then everything that reacts to the new positions
+    private void simulateTick(float tick) {
+        player.getInterpolator().capture(player.getBody());
+        ArrayList<AbstractEnemy> enemies = enemySpawner.getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            AbstractEnemy e = enemies.get(i);
+            e.getInterpolator().capture(e.getBody());
+        }
+
+        // Also moves projectiles and resolves their hits
+        physicsManager.step(tick);
+        playerLogic.update(tick);
+
+        // Safe point: hand finished searches to enemies
+        capstone.main.Pathfinding.PathRequestService.update();
+        enemyLogic.update(tick);
+    }
+
+    private void applyInterpolatedSprites(float alpha) {
+        player.getInterpolator().apply(player.getSprite(), player.getBody(), alpha);
+        ArrayList<AbstractEnemy> enemies = enemySpawner.getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            AbstractEnemy e = enemies.get(i);
+            e.getInterpolator().apply(e.getSprite(), e.getBody(), alpha);
+        }
+    }
+
+    private void restoreInterpolatedSprites() {
+        player.getInterpolator().restore(player.getSprite());
+        ArrayList<AbstractEnemy> enemies = enemySpawner.getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            AbstractEnemy e = enemies.get(i);
+            e.getInterpolator().restore(e.getSprite());
+        }
+    }
+
     private void updateCamera() {
 
         float targetX = player.getSprite().getX() + player.getSprite().getWidth() / 2f;
@@ -963,6 +1009,18 @@ public class Game implements Screen {
         cameraManager.update(Gdx.graphics.getDeltaTime(), targetX, targetY, mouseWorld);
     }
 
+    // Load wall rectangles from wallLayer if present and publish to WallRegistry (indexed once per map)
+    private void publishWalls() {
+        try {
+            java.util.List<com.badlogic.gdx.math.Rectangle> walls = capstone.main.Managers.CollisionLoader.getCollisionRectangles(
+                mapManager.getTiledMap(), "wallLayer", 1/32f);
+            capstone.main.Managers.WallRegistry.setWalls(walls);
+            com.badlogic.gdx.Gdx.app.log("Walls", "Loaded " + (walls != null ? walls.size() : 0) + " rectangles from wallLayer");
+        } catch (Exception ex) {
+            capstone.main.Managers.WallRegistry.setWalls(java.util.Collections.emptyList());
+        }
+    }
+
     private void loadPortalsFromMap() {
         portals.clear();
         com.badlogic.gdx.maps.MapLayer layer = mapManager.getTiledMap().getLayers().get("portals");
@@ -1262,14 +1320,8 @@ public class Game implements Screen {
         }
 
         // Clear bullets/fireballs
-        if (bulletLogic != null && player instanceof Ranged) {
-            ((Ranged) player).getBullets().clear();
-            System.out.println("MEMORY CLEANUP: Cleared bullets on world transition");
-        }
-        if (fireballLogic != null && player instanceof Quiboloy) {
-            ((Quiboloy) player).getFireballs().clear();
-            System.out.println("MEMORY CLEANUP: Cleared fireballs on world transition");
-        }
+        physicsManager.getProjectiles().clear();
+        System.out.println("MEMORY CLEANUP: Cleared projectiles on world transition");
 
         // CRITICAL: Suggest garbage collection after major transition cleanup
         System.gc();
@@ -1311,12 +1363,13 @@ public class Game implements Screen {
         // Do NOT dispose mapRenderer here; it was just recreated above. Keep reference valid for WorldRenderer.
         worldRenderer = null; // let GC reclaim; WorldRenderer has no explicit dispose
 
-        // Rebuild NavMesh and update spawner BEFORE spawning
-        int maxNavMeshSize = 200;
-        int navWidth = Math.min(maxNavMeshSize, (int) mapManager.getWorldWidth());
-        int navHeight = Math.min(maxNavMeshSize, (int) mapManager.getWorldHeight());
-        NavMesh navMesh = new NavMesh(navWidth, navHeight,
+        // Rebuild NavMesh and update spawner BEFORE spawning (full map, no size clamp)
+        int navWidth = (int) mapManager.getWorldWidth();
+        int navHeight = (int) mapManager.getWorldHeight();
+        NavMesh navMesh = NavGridCache.load(navWidth, navHeight,
             CollisionLoader.getCollisionRectangles(mapManager.getTiledMap(), "collisionLayer", 1 / 32f));
+        worldMapManager.applySolverIterations(targetWorld, physicsManager);
+        capstone.main.Pathfinding.PathRequestService.setEngineFactory(worldMapManager.getPathEngineFactory(targetWorld));
 
         // Configure spawner and clear old enemies BEFORE applying spawn policy
         if (enemySpawner != null) {
@@ -1364,15 +1417,7 @@ public class Game implements Screen {
             spawnItemsForCurrentWorld();
         }
 
-        // Load wall rectangles from wallLayer if present and publish to WallRegistry
-        try {
-            java.util.List<com.badlogic.gdx.math.Rectangle> walls = capstone.main.Managers.CollisionLoader.getCollisionRectangles(
-                mapManager.getTiledMap(), "wallLayer", 1/32f);
-            capstone.main.Managers.WallRegistry.setWalls(walls);
-            com.badlogic.gdx.Gdx.app.log("Walls", "Loaded " + (walls != null ? walls.size() : 0) + " rectangles from wallLayer");
-        } catch (Exception ex) {
-            capstone.main.Managers.WallRegistry.setWalls(java.util.Collections.emptyList());
-        }
+        publishWalls();
 
         // Hint GC by clearing damage numbers from previous map if they lingered
         if (damageNumbers != null && !damageNumbers.isEmpty()) {
@@ -1690,6 +1735,7 @@ public class Game implements Screen {
     public void dispose() {
         // MEMORY LEAK FIX: Dispose static textures
         System.out.println("MEMORY CLEANUP: Disposing game resources");
+        capstone.main.Pathfinding.PathRequestService.shutdown();
         try {
             Bullet.disposeStaticResources();
             Fireball.disposeStaticResources();
@@ -1810,14 +1856,11 @@ public class Game implements Screen {
                     enemySpawner.getEnemies(),
                     damageNumbers,
                     damageFont,
-                    mapWidth,
-                    mapHeight,
                     physicsManager.getWorld(),
                     screenShake
                 );
             case 2:
                 // Quiboloy - Ranged fireball user
-                ArrayList<Fireball> fireballs = new ArrayList<>(); // create list for fireballs
                 return new Quiboloy(
                     100,           // healthPoints (rebalanced: 90→100 - slightly less fragile)
                     120,           // manaPoints (highest - mage needs mana)
@@ -1828,15 +1871,11 @@ public class Game implements Screen {
                     9f,            // y
                     2f,            // width
                     2f,         // height
-                    fireballs,     // fireballs list
-                    mapWidth,
-                    mapHeight,
                     physicsManager.getWorld(),
                     screenShake
                 );
             default:
                 // Vico Sotto - Ranged bullets
-                ArrayList<Bullet> bullets = new ArrayList<>();
                 return new VicoSotto(
                     120,           // healthPoints (middle ground)
                     70,            // manaPoints (moderate)
@@ -1847,9 +1886,6 @@ public class Game implements Screen {
                     9f,            // y
                     2f,            // width
                     2f,            // height
-                    bullets,       // bullets list
-                    mapWidth,
-                    mapHeight,
                     physicsManager.getWorld(),
                     screenShake
                 );
@@ -0,0 +1,149 @@
+package capstone.main.Enemies;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EnemySpatialHashTest {
+
+    @Test
+    public void shapeQueriesMatchBruteForce() {
+        Random random = new Random(17);
+        ArrayList<AbstractEnemy> enemies = new ArrayList<>();
+        ArrayList<Vector2> positions = new ArrayList<>(); // brute force reads these, not the mocks
+        // Spread well past the bucket table's span so distant cells share buckets
+        for (int i = 0; i < 300; i++) {
+            Vector2 p = new Vector2(-200f + random.nextFloat() * 400f, -200f + random.nextFloat() * 400f);
+            positions.add(p);
+            enemies.add(enemy(p.x, p.y, 0.5f));
+        }
+        EnemySpatialHash hash = new EnemySpatialHash(EnemySpatialHash.CELL_SIZE);
+        hash.rebuild(enemies);
+        AbstractEnemy[] out = new AbstractEnemy[enemies.size()];
+
+        for (int q = 0; q < 200; q++) {
+            float x = -200f + random.nextFloat() * 400f;
+            float y = -200f + random.nextFloat() * 400f;
+            float radius = 1f + random.nextFloat() * 30f;
+
+            Set<AbstractEnemy> expected = new HashSet<>();
+            for (int i = 0; i < enemies.size(); i++) {
+                if (positions.get(i).dst2(x, y) <= radius * radius) expected.add(enemies.get(i));
+            }
+            assertEquals(expected, found(out, hash.queryCircle(x, y, radius, out)));
+
+            expected.clear();
+            float inner = radius / 2f;
+            for (int i = 0; i < enemies.size(); i++) {
+                float d2 = positions.get(i).dst2(x, y);
+                if (d2 <= radius * radius && d2 >= inner * inner) expected.add(enemies.get(i));
+            }
+            assertEquals(expected, found(out, hash.queryAnnulus(x, y, inner, radius, out)));
+
+            expected.clear();
+            float bx = x + random.nextFloat() * 40f - 20f;
+            float by = y + random.nextFloat() * 40f - 20f;
+            for (int i = 0; i < enemies.size(); i++) {
+                if (segmentDistance2(positions.get(i), x, y, bx, by) <= 4f) expected.add(enemies.get(i));
+            }
+            assertEquals(expected, found(out, hash.queryCapsule(x, y, bx, by, 2f, out)));
+
+            expected.clear();
+            float half = 0.2f + random.nextFloat() * 2.5f;
+            for (int i = 0; i < enemies.size(); i++) {
+                Vector2 p = positions.get(i);
+                float dx = p.x - x, dy = p.y - y;
+                float d2 = dx * dx + dy * dy;
+                if (d2 > radius * radius) continue;
+                double angle = Math.abs(Math.atan2(dy, dx) - Math.atan2(by - y, bx - x));
+                if (angle > Math.PI) angle = 2 * Math.PI - angle;
+                if (d2 == 0f || angle <= half) expected.add(enemies.get(i));
+            }
+            assertEquals(expected, found(out, hash.querySector(x, y, radius, bx - x, by - y, half, out)));
+        }
+    }
+
+    @Test
+    public void insertedEnemiesAreFoundBeforeTheNextRebuild() {
+        ArrayList<AbstractEnemy> enemies = new ArrayList<>();
+        enemies.add(enemy(0f, 0f, 0.5f));
+        EnemySpatialHash hash = new EnemySpatialHash(EnemySpatialHash.CELL_SIZE);
+        hash.rebuild(enemies);
+
+        AbstractEnemy late = enemy(1f, 1f, 0.5f);
+        hash.insert(late);
+        AbstractEnemy[] out = new AbstractEnemy[4];
+        assertEquals(2, hash.queryCircle(0f, 0f, 3f, out));
+
+        int[] indices = new int[4];
+        assertEquals(2, hash.queryCircleIndices(0f, 0f, 3f, indices));
+        assertTrue(hash.enemyAt(indices[0]) == late || hash.enemyAt(indices[1]) == late);
+    }
+
+    @Test
+    public void deadEnemiesAreSkippedAndFullBuffersStop() {
+        ArrayList<AbstractEnemy> enemies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) enemies.add(enemy(i * 0.1f, 0f, 0.5f));
+        EnemySpatialHash hash = new EnemySpatialHash(EnemySpatialHash.CELL_SIZE);
+        hash.rebuild(enemies);
+
+        // Died after the snapshot: shape queries drop it, index queries still report it
+        when(enemies.get(3).isDead()).thenReturn(true);
+        AbstractEnemy[] out = new AbstractEnemy[16];
+        assertEquals(9, hash.queryCircle(0f, 0f, 5f, out));
+        assertEquals(10, hash.queryCircleIndices(0f, 0f, 5f, new int[16]));
+
+        assertEquals(3, hash.queryCircle(0f, 0f, 5f, new AbstractEnemy[3]));
+    }
+
+    @Test
+    public void maxRadiusTracksTheSnapshot() {
+        ArrayList<AbstractEnemy> enemies = new ArrayList<>();
+        enemies.add(enemy(0f, 0f, 0.25f));
+        enemies.add(enemy(5f, 5f, 0.75f));
+        EnemySpatialHash hash = new EnemySpatialHash(EnemySpatialHash.CELL_SIZE);
+        hash.rebuild(enemies);
+        assertEquals(0.75f, hash.getMaxRadius(), 0f);
+
+        hash.clear();
+        assertEquals(0f, hash.getMaxRadius(), 0f);
+        assertEquals(0, hash.queryCircle(0f, 0f, 10f, new AbstractEnemy[4]));
+    }
+
+    private static AbstractEnemy enemy(float x, float y, float radius) {
+        Body body = mock(Body.class);
+        when(body.getPosition()).thenReturn(new Vector2(x, y));
+        when(body.getLinearVelocity()).thenReturn(new Vector2());
+        AbstractEnemy e = mock(AbstractEnemy.class);
+        when(e.getBody()).thenReturn(body);
+        when(e.getBodyRadius()).thenReturn(radius);
+        return e;
+    }
+
+    private static Set<AbstractEnemy> found(AbstractEnemy[] out, int count) {
+        Set<AbstractEnemy> set = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            assertTrue("reported twice", set.add(out[i]));
+        }
+        return set;
+    }
+
+    private static float segmentDistance2(Vector2 p, float ax, float ay, float bx, float by) {
+        float sx = bx - ax, sy = by - ay;
+        float len2 = sx * sx + sy * sy;
+        float t = len2 > 0f ? ((p.x - ax) * sx + (p.y - ay) * sy) / len2 : 0f;
+        t = Math.max(0f, Math.min(1f, t));
+        float dx = p.x - ax - t * sx, dy = p.y - ay - t * sy;
+        return dx * dx + dy * dy;
+    }
+}
@@ -0,0 +1,94 @@
+package capstone.main.Managers;
+
+import com.badlogic.gdx.math.Rectangle;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CollisionLoaderTest {
+
+    @Test
+    public void mergesARowOfTouchingBoxesIntoOne() {
+        ArrayList<Rectangle> merged = CollisionLoader.mergeRectangles(Arrays.asList(
+            new Rectangle(0f, 0f, 32f, 32f),
+            new Rectangle(64f, 0f, 32f, 32f),
+            new Rectangle(32f, 0f, 32f, 32f)));
+        assertEquals(1, merged.size());
+        assertRect(merged.get(0), 0f, 0f, 96f, 32f);
+    }
+
+    @Test
+    public void keepsGoingUntilNothingMoreMerges() {
+        // One pass leaves two strips; they only merge on the next pass
+        ArrayList<Rectangle> merged = CollisionLoader.mergeRectangles(Arrays.asList(
+            new Rectangle(0f, 0f, 10f, 10f),
+            new Rectangle(10f, 10f, 10f, 10f),
+            new Rectangle(0f, 10f, 10f, 10f),
+            new Rectangle(10f, 0f, 10f, 10f)));
+        assertEquals(1, merged.size());
+        assertRect(merged.get(0), 0f, 0f, 20f, 20f);
+    }
+
+    @Test
+    public void absorbsContainedAndNearlyAlignedBoxes() {
+        ArrayList<Rectangle> merged = CollisionLoader.mergeRectangles(Arrays.asList(
+            new Rectangle(0f, 0f, 50f, 50f),
+            new Rectangle(10f, 10f, 5f, 5f),
+            new Rectangle(50.005f, 0f, 20f, 50.005f)));
+        assertEquals(1, merged.size());
+        assertEquals(70.005f, merged.get(0).width, 1e-3f);
+    }
+
+    @Test
+    public void leavesLShapesAndEmptyBoxesAlone() {
+        ArrayList<Rectangle> merged = CollisionLoader.mergeRectangles(Arrays.asList(
+            new Rectangle(0f, 0f, 20f, 10f),
+            new Rectangle(0f, 10f, 10f, 10f),
+            new Rectangle(5f, 5f, 0f, 10f)));
+        assertEquals(2, merged.size());
+    }
+
+    @Test
+    public void randomLayersKeepTheirAreaAndReachAFixpoint() {
+        Random random = new Random(24);
+        for (int layer = 0; layer < 50; layer++) {
+            ArrayList<Rectangle> source = new ArrayList<>();
+            // Grid-aligned boxes so unions are often exact rectangles
+            for (int i = 0; i < 30; i++) {
+                source.add(new Rectangle(random.nextInt(12) * 8f, random.nextInt(12) * 8f,
+                    (1 + random.nextInt(3)) * 8f, (1 + random.nextInt(3)) * 8f));
+            }
+            ArrayList<Rectangle> merged = CollisionLoader.mergeRectangles(source);
+            assertTrue(merged.size() <= source.size());
+
+            for (int x = 0; x < 128; x++) {
+                for (int y = 0; y < 128; y++) {
+                    float px = x + 0.5f, py = y + 0.5f;
+                    assertEquals("layer " + layer + " at " + px + "," + py,
+                        covered(source, px, py), covered(merged, px, py));
+                }
+            }
+            // Merging the output again must change nothing
+            assertEquals(merged.size(), CollisionLoader.mergeRectangles(merged).size());
+        }
+    }
+
+    private static boolean covered(ArrayList<Rectangle> rects, float x, float y) {
+        for (Rectangle r : rects) {
+            if (r.contains(x, y)) return true;
+        }
+        return false;
+    }
+
+    private static void assertRect(Rectangle r, float x, float y, float width, float height) {
+        assertEquals(x, r.x, 0f);
+        assertEquals(y, r.y, 0f);
+        assertEquals(width, r.width, 0f);
+        assertEquals(height, r.height, 0f);
+    }
+}
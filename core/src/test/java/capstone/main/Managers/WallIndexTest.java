@@ -0,0 +1,107 @@
+package capstone.main.Managers;
+
+import com.badlogic.gdx.math.Rectangle;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WallIndexTest {
+
+    @Test
+    public void emptyIndexHitsNothing() {
+        WallIndex index = WallIndex.build(new ArrayList<Rectangle>());
+        assertEquals(-1f, index.firstHit(0f, 0f, 10f, 10f), 0f);
+        assertFalse(index.isInsideWall(0f, 0f));
+    }
+
+    @Test
+    public void segmentStartingInsideAWallHitsAtZero() {
+        WallIndex index = WallIndex.build(walls(new Rectangle(2f, 2f, 3f, 3f)));
+        assertEquals(0f, index.firstHit(3f, 3f, 20f, 3f), 0f);
+    }
+
+    @Test
+    public void stopsAtTheNearestWallAlongTheSegment() {
+        // The far wall is long and listed first, so it shows up in cells the near wall also uses
+        WallIndex index = WallIndex.build(walls(
+            new Rectangle(8f, 0f, 1f, 10f),
+            new Rectangle(4f, 4f, 1f, 1f)));
+        assertEquals(0.4f, index.firstHit(0f, 4.5f, 10f, 4.5f), 1e-6f);
+        // Passing below the near wall reaches the far one
+        assertEquals(0.8f, index.firstHit(0f, 2f, 10f, 2f), 1e-6f);
+    }
+
+    @Test
+    public void missReturnsMinusOne() {
+        WallIndex index = WallIndex.build(walls(new Rectangle(5f, 5f, 2f, 2f)));
+        assertEquals(-1f, index.firstHit(0f, 0f, 10f, 1f), 0f);
+        assertFalse(index.segmentHitsWall(0f, 0f, 4f, 4f));
+        assertTrue(index.segmentHitsWall(0f, 0f, 6f, 6f));
+    }
+
+    @Test
+    public void matchesBruteForceOnRandomWalls() {
+        Random random = new Random(228);
+        for (int map = 0; map < 20; map++) {
+            ArrayList<Rectangle> walls = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                walls.add(new Rectangle(random.nextFloat() * 60f, random.nextFloat() * 40f,
+                    0.2f + random.nextFloat() * 6f, 0.2f + random.nextFloat() * 6f));
+            }
+            WallIndex index = WallIndex.build(walls);
+
+            for (int q = 0; q < 500; q++) {
+                float ax = -5f + random.nextFloat() * 75f, ay = -5f + random.nextFloat() * 55f;
+                float bx = -5f + random.nextFloat() * 75f, by = -5f + random.nextFloat() * 55f;
+                if (q % 10 == 0) by = ay; // axis-aligned segments take the dx/dy == 0 paths
+                if (q % 10 == 1) bx = ax;
+                assertEquals("segment " + q + " on map " + map,
+                    bruteFirstHit(walls, ax, ay, bx, by), index.firstHit(ax, ay, bx, by), 1e-5f);
+                assertEquals(bruteInside(walls, ax, ay), index.isInsideWall(ax, ay));
+            }
+        }
+    }
+
+    private static ArrayList<Rectangle> walls(Rectangle... rects) {
+        ArrayList<Rectangle> list = new ArrayList<>();
+        for (Rectangle r : rects) list.add(r);
+        return list;
+    }
+
+    private static boolean bruteInside(ArrayList<Rectangle> walls, float x, float y) {
+        for (Rectangle r : walls) {
+            if (x >= r.x && x <= r.x + r.width && y >= r.y && y <= r.y + r.height) return true;
+        }
+        return false;
+    }
+
+    // Slab test against every wall, keeping the earliest entry
+    private static float bruteFirstHit(ArrayList<Rectangle> walls, float ax, float ay, float bx, float by) {
+        float dx = bx - ax, dy = by - ay;
+        float best = Float.POSITIVE_INFINITY;
+        for (Rectangle r : walls) {
+            float t0 = 0f, t1 = 1f;
+            if (dx == 0f) {
+                if (ax < r.x || ax > r.x + r.width) continue;
+            } else {
+                float u = (r.x - ax) / dx, v = (r.x + r.width - ax) / dx;
+                t0 = Math.max(t0, Math.min(u, v));
+                t1 = Math.min(t1, Math.max(u, v));
+            }
+            if (dy == 0f) {
+                if (ay < r.y || ay > r.y + r.height) continue;
+            } else {
+                float u = (r.y - ay) / dy, v = (r.y + r.height - ay) / dy;
+                t0 = Math.max(t0, Math.min(u, v));
+                t1 = Math.min(t1, Math.max(u, v));
+            }
+            if (t0 <= t1 && t0 < best) best = t0;
+        }
+        return best == Float.POSITIVE_INFINITY ? -1f : best;
+    }
+}
@@ -0,0 +1,135 @@
+package capstone.main.Pathfinding;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class IncrementalPlannerTest {
+    private final List<IncrementalPlanner> acquired = new ArrayList<>();
+    private NavMesh navMesh;
+
+    @Before
+    public void setUp() {
+        Gdx.app = mock(Application.class); // NavMesh, ClusterGraph and the repair stats log
+        Random random = new Random(5);
+        ArrayList<Rectangle> obstacles = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            obstacles.add(new Rectangle(random.nextInt(80), random.nextInt(80), 1 + random.nextInt(6), 1 + random.nextInt(6)));
+        }
+        navMesh = new NavMesh(90, 90, obstacles);
+    }
+
+    @After
+    public void tearDown() {
+        for (IncrementalPlanner planner : acquired) IncrementalPlanner.release(planner);
+        acquired.clear();
+    }
+
+    @Test
+    public void repairsAfterTheTargetMovesStayOptimal() {
+        IncrementalPlanner planner = acquire();
+        ArrayAStar reference = new ArrayAStar();
+        List<NavNode> path = new ArrayList<>();
+        List<NavNode> expected = new ArrayList<>();
+        Random random = new Random(1);
+        long repairsBefore = IncrementalPlanner.getRepairCount();
+
+        NavNode chaser = navMesh.getNearestNode(5, 5);
+        NavNode target = navMesh.getNearestNode(60, 60);
+        for (int step = 0; step < 300; step++) {
+            // The target wanders; the chaser follows its path, so the old search stays rooted on it
+            NavNode moved = navMesh.getNearestNode(target.x + random.nextInt(5) - 2, target.y + random.nextInt(5) - 2);
+            if (moved != null) target = moved;
+
+            boolean found = planner.plan(navMesh, chaser, target, path);
+            assertEquals(reference.findPath(navMesh, chaser, target, expected), found);
+            if (!found) continue;
+            assertSame(chaser, path.get(0));
+            assertSame(target, path.get(path.size() - 1));
+            assertEquals("step " + step, cost(expected), cost(path), 1e-3f);
+            if (path.size() > 2) chaser = path.get(1);
+        }
+        assertTrue("no repairs ran", IncrementalPlanner.getRepairCount() - repairsBefore > 100);
+    }
+
+    @Test
+    public void slicedPlansMatchWholePlans() {
+        IncrementalPlanner whole = acquire();
+        IncrementalPlanner sliced = acquire();
+        List<NavNode> wholePath = new ArrayList<>();
+        List<NavNode> slicedPath = new ArrayList<>();
+        Random random = new Random(2);
+
+        NavNode chaser = navMesh.getNearestNode(80, 10);
+        NavNode target = navMesh.getNearestNode(10, 80);
+        for (int step = 0; step < 100; step++) {
+            NavNode moved = navMesh.getNearestNode(target.x + random.nextInt(5) - 2, target.y + random.nextInt(5) - 2);
+            if (moved != null) target = moved;
+
+            boolean found = whole.plan(navMesh, chaser, target, wholePath);
+            int status = sliced.begin(navMesh, chaser, target);
+            while (status == GridSearch.SEARCHING) status = sliced.step(7);
+            sliced.buildPath(slicedPath);
+
+            assertEquals(found, status == GridSearch.FOUND);
+            assertEquals(cost(wholePath), cost(slicedPath), 1e-3f);
+            if (wholePath.size() > 2) chaser = wholePath.get(1);
+        }
+    }
+
+    @Test
+    public void unreachableTargetFailsWithoutSearching() {
+        BitSet blocked = new BitSet();
+        for (int y = 0; y < 20; y++) blocked.set(10 * 20 + y); // wall across column 10
+        NavMesh split = new NavMesh(20, 20, blocked);
+        IncrementalPlanner planner = acquire();
+        List<NavNode> path = new ArrayList<>();
+
+        assertFalse(planner.plan(split, split.getNode(2, 2), split.getNode(18, 2), path));
+        assertTrue(path.isEmpty());
+        assertEquals(0, planner.getLastTouched());
+    }
+
+    @Test
+    public void poolIsBoundedAndReusesReleasedPlanners() {
+        IncrementalPlanner planner;
+        while ((planner = IncrementalPlanner.acquire()) != null) {
+            acquired.add(planner);
+            assertTrue("pool grew past its size", acquired.size() <= 8);
+        }
+        IncrementalPlanner returned = acquired.remove(acquired.size() - 1);
+        IncrementalPlanner.release(returned);
+        assertSame(returned, acquire());
+    }
+
+    private IncrementalPlanner acquire() {
+        IncrementalPlanner planner = IncrementalPlanner.acquire();
+        assertNotNull("pool exhausted", planner);
+        acquired.add(planner);
+        return planner;
+    }
+
+    private static float cost(List<NavNode> path) {
+        float cost = 0f;
+        for (int i = 1; i < path.size(); i++) {
+            NavNode a = path.get(i - 1), b = path.get(i);
+            cost += (a.x != b.x && a.y != b.y) ? NavMesh.DIAGONAL_COST : 1f;
+        }
+        return cost;
+    }
+}
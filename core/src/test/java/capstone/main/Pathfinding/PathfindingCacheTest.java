@@ -0,0 +1,137 @@
+package capstone.main.Pathfinding;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class PathfindingCacheTest {
+    private NavMesh navMesh;
+
+    @Before
+    public void setUp() {
+        Gdx.app = mock(Application.class); // NavMesh and ClusterGraph log while building
+        navMesh = new NavMesh(64, 64, new BitSet());
+        PathfindingCache.clearCache();
+        PathfindingCache.logStats(); // counters are static too
+    }
+
+    @Test
+    public void evictionsKeepEveryResidentKeyReachable() {
+        Random random = new Random(6);
+        int tiles = navMesh.getNodeCount();
+        long[] keys = new long[3000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ((long) random.nextInt(tiles) << 32) | random.nextInt(tiles);
+            PathfindingCache.put(navMesh, start(keys[i]), target(keys[i]), 1, TilePath.EMPTY);
+            assertNotNull("just stored", peek(keys[i]));
+
+            // Each eviction deletes from the probe table; a gap left behind would hide later keys
+            if (i % 250 == 249) {
+                int resident = 0;
+                for (int k = 0; k <= i; k++) {
+                    if (peek(keys[k]) != null) resident++;
+                }
+                assertEquals(PathfindingCache.size(), resident);
+            }
+        }
+        assertEquals(256, PathfindingCache.size());
+    }
+
+    @Test
+    public void storingTheSameKeyTwiceKeepsTheFirstEntry() {
+        TilePath cached = store(node(1, 1), node(40, 40));
+        PathfindingCache.put(navMesh, node(1, 1), node(40, 40), 1, TilePath.EMPTY);
+        assertEquals(1, PathfindingCache.size());
+        assertSame(cached, peek(node(1, 1), node(40, 40)));
+    }
+
+    @Test
+    public void costChangesDropOnlyPathsThroughTheChangedRegion() {
+        TilePath low = store(node(2, 2), node(60, 2));
+        TilePath high = store(node(2, 60), node(60, 60));
+        assertEquals(2, PathfindingCache.size());
+
+        navMesh.addTileCost(30.5f, 2.5f, 1f, 5f);
+        assertNull(peek(node(2, 2), node(60, 2)));
+        assertSame(high, peek(node(2, 60), node(60, 60)));
+        assertEquals(1, PathfindingCache.size());
+
+        // The freed slot is reused and the surviving key is still found after it
+        TilePath again = store(node(2, 2), node(60, 2));
+        assertFalse(again == low);
+        assertSame(high, peek(node(2, 60), node(60, 60)));
+        assertEquals(2, PathfindingCache.size());
+    }
+
+    @Test
+    public void newMeshDropsEverything() {
+        store(node(2, 2), node(60, 2));
+        NavMesh other = new NavMesh(64, 64, new BitSet());
+        assertNull(PathfindingCache.peek(other, other.getNode(2, 2), other.getNode(60, 2), 1));
+        assertEquals(0, PathfindingCache.size());
+    }
+
+    @Test
+    public void partialPathsAreNotCached() {
+        List<NavNode> leg = new ArrayList<>();
+        new ArrayAStar().findPath(navMesh, node(2, 2), node(20, 2), leg);
+        PathfindingCache.put(navMesh, node(2, 2), node(60, 2), 1, new TilePath(navMesh, leg, true));
+        assertNull(peek(node(2, 2), node(60, 2)));
+        assertEquals(0, PathfindingCache.size());
+    }
+
+    @Test
+    public void loggingStatsStartsACleanCount() {
+        peek(node(1, 1), node(40, 40));
+        store(node(1, 1), node(40, 40));
+        peek(node(1, 1), node(40, 40));
+        assertEquals(1, PathfindingCache.getHitCount());
+        assertEquals(1, PathfindingCache.getMissCount());
+
+        PathfindingCache.logStats();
+        assertEquals(0, PathfindingCache.getHitCount());
+        assertEquals(0, PathfindingCache.getMissCount());
+    }
+
+    // A real path, as a worker would deliver it, so cost changes can tell which regions it crosses
+    private TilePath store(NavNode start, NavNode target) {
+        List<NavNode> nodes = new ArrayList<>();
+        new ArrayAStar().findPath(navMesh, start, target, 0f, nodes);
+        TilePath path = new TilePath(navMesh, nodes);
+        PathfindingCache.put(navMesh, start, target, 1, path);
+        return path;
+    }
+
+    private TilePath peek(long key) {
+        return PathfindingCache.peek(navMesh, start(key), target(key), 1);
+    }
+
+    private TilePath peek(NavNode start, NavNode target) {
+        return PathfindingCache.peek(navMesh, start, target, 1);
+    }
+
+    private NavNode start(long key) {
+        return navMesh.getNodeByIndex((int) (key >>> 32));
+    }
+
+    private NavNode target(long key) {
+        return navMesh.getNodeByIndex((int) key);
+    }
+
+    private NavNode node(int x, int y) {
+        return navMesh.getNode(x, y);
+    }
+}